@@ -24,6 +24,9 @@ import feign.codec.DecodeException;
 import feign.codec.Decoder;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Type;
@@ -51,52 +54,62 @@ class ExceptionGenerator {
             .build();
   }
 
-  private final Integer bodyIndex;
-  private final Integer requestIndex;
-  private final Integer headerMapIndex;
-  private final Integer numOfParams;
+  private final int bodyIndex;
+  private final int requestIndex;
+  private final int headerMapIndex;
+  private final int numOfParams;
   private final Type bodyType;
   private final Class<? extends Exception> exceptionType;
   private final Decoder bodyDecoder;
 
+  /** The constructor, taking its arguments as an {@code Object[]} and returning an Exception. */
+  private final MethodHandle constructor;
+
   ExceptionGenerator(
-      Integer bodyIndex,
-      Integer requestIndex,
-      Integer headerMapIndex,
-      Integer numOfParams,
+      int bodyIndex,
+      int requestIndex,
+      int headerMapIndex,
       Type bodyType,
-      Class<? extends Exception> exceptionType,
+      Constructor<? extends Exception> constructor,
       Decoder bodyDecoder) {
     this.bodyIndex = bodyIndex;
     this.requestIndex = requestIndex;
     this.headerMapIndex = headerMapIndex;
-    this.numOfParams = numOfParams;
+    this.numOfParams = constructor.getParameterCount();
     this.bodyType = bodyType;
-    this.exceptionType = exceptionType;
+    this.exceptionType = constructor.getDeclaringClass();
     this.bodyDecoder = bodyDecoder;
+    this.constructor = bind(constructor);
   }
 
-  Exception createException(Response response)
-      throws InvocationTargetException,
-          NoSuchMethodException,
-          InstantiationException,
-          IllegalAccessException {
+  private static MethodHandle bind(Constructor<? extends Exception> constructor) {
+    try {
+      return MethodHandles.lookup()
+          .unreflectConstructor(constructor)
+          .asSpreader(Object[].class, constructor.getParameterCount())
+          .asType(MethodType.methodType(Exception.class, Object[].class));
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(
+          "Cannot access constructor of [" + constructor.getDeclaringClass().getName() + "]", e);
+    }
+  }
 
-    Class<?>[] paramClasses = new Class[numOfParams];
+  Exception createException(Response response) throws InvocationTargetException {
     Object[] paramValues = new Object[numOfParams];
     if (bodyIndex >= 0) {
-      paramClasses[bodyIndex] = Types.getRawType(bodyType);
       paramValues[bodyIndex] = resolveBody(response);
     }
     if (requestIndex >= 0) {
-      paramClasses[requestIndex] = Request.class;
       paramValues[requestIndex] = response.request();
     }
     if (headerMapIndex >= 0) {
       paramValues[headerMapIndex] = response.headers();
-      paramClasses[headerMapIndex] = Map.class;
     }
-    return exceptionType.getConstructor(paramClasses).newInstance(paramValues);
+    try {
+      return (Exception) constructor.invokeExact(paramValues);
+    } catch (Throwable e) {
+      throw new InvocationTargetException(e);
+    }
   }
 
   Class<? extends Exception> getExceptionType() {
@@ -137,10 +150,9 @@ class ExceptionGenerator {
       Type[] parameterTypes = constructor.getGenericParameterTypes();
       Annotation[][] parametersAnnotations = constructor.getParameterAnnotations();
 
-      Integer bodyIndex = -1;
-      Integer requestIndex = -1;
-      Integer headerMapIndex = -1;
-      Integer numOfParams = parameterTypes.length;
+      int bodyIndex = -1;
+      int requestIndex = -1;
+      int headerMapIndex = -1;
       Type bodyType = null;
 
       for (int i = 0; i < parameterTypes.length; i++) {
@@ -179,13 +191,7 @@ class ExceptionGenerator {
 
       ExceptionGenerator generator =
           new ExceptionGenerator(
-              bodyIndex,
-              requestIndex,
-              headerMapIndex,
-              numOfParams,
-              bodyType,
-              exceptionType,
-              responseBodyDecoder);
+              bodyIndex, requestIndex, headerMapIndex, bodyType, constructor, responseBodyDecoder);
 
       validateGeneratorCanBeUsedToGenerateExceptions(generator);
       return generator;
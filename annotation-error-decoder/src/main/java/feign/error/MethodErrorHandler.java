@@ -40,26 +40,18 @@ class MethodErrorHandler {
   }
 
   private ExceptionGenerator getConstructorDefinition(Response response) {
-    if (methodLevelExceptionsByCode.containsKey(response.status())) {
-      return methodLevelExceptionsByCode.get(response.status());
+    ExceptionGenerator generator = methodLevelExceptionsByCode.get(response.status());
+    if (generator == null) {
+      generator = classLevelExceptionsByCode.get(response.status());
     }
-    if (classLevelExceptionsByCode.containsKey(response.status())) {
-      return classLevelExceptionsByCode.get(response.status());
-    }
-    return defaultException;
+    return generator != null ? generator : defaultException;
   }
 
   protected Exception createException(ExceptionGenerator constructorDefinition, Response response) {
     try {
       return constructorDefinition.createException(response);
-    } catch (IllegalAccessException e) {
-      throw new IllegalStateException("Cannot access constructor", e);
-    } catch (InstantiationException e) {
-      throw new IllegalStateException("Cannot instantiate exception with constructor", e);
     } catch (InvocationTargetException e) {
       throw new IllegalStateException("Cannot invoke constructor", e);
-    } catch (NoSuchMethodException e) {
-      throw new IllegalStateException("Constructor does not exist", e);
     }
   }
 }
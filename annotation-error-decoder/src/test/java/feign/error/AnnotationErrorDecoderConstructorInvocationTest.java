@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2012 The Feign Authors (feign@commonhaus.dev)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package feign.error;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import feign.error.AnnotationErrorDecoderConstructorInvocationTest.TestClientInterfaceWithConstructorSideEffects;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class AnnotationErrorDecoderConstructorInvocationTest
+    extends AbstractAnnotationErrorDecoderTest<TestClientInterfaceWithConstructorSideEffects> {
+
+  @Override
+  public Class<TestClientInterfaceWithConstructorSideEffects> interfaceAtTest() {
+    return TestClientInterfaceWithConstructorSideEffects.class;
+  }
+
+  @Test
+  void bodyIsOnlyDecodedForConstructorsTakingIt() throws Exception {
+    AtomicInteger decodedBodies = new AtomicInteger();
+    AnnotationErrorDecoder decoder =
+        AnnotationErrorDecoder.builderFor(TestClientInterfaceWithConstructorSideEffects.class)
+            .withResponseBodyDecoder(
+                (response, type) -> {
+                  decodedBodies.incrementAndGet();
+                  return "decoded";
+                })
+            .build();
+    decodedBodies.set(0);
+
+    assertThat(decoder.decode(feignConfigKey("method1Test"), testResponse(404)))
+        .isInstanceOf(NoBodyException.class);
+    assertThat(decodedBodies).hasValue(0);
+
+    Exception withBody = decoder.decode(feignConfigKey("method1Test"), testResponse(400));
+    assertThat(withBody).isInstanceOf(BodyException.class).hasMessage("decoded");
+    assertThat(decodedBodies).hasValue(1);
+  }
+
+  @Test
+  void exceptionsThrownByConstructorsAreWrapped() throws Exception {
+    AnnotationErrorDecoder decoder =
+        AnnotationErrorDecoder.builderFor(TestClientInterfaceWithConstructorSideEffects.class)
+            .build();
+    FailingException.fail = true;
+    try {
+      IllegalStateException exception =
+          assertThrows(
+              IllegalStateException.class,
+              () -> decoder.decode(feignConfigKey("method1Test"), testResponse(500)));
+      assertThat(exception.getCause()).hasRootCauseInstanceOf(UnsupportedOperationException.class);
+    } finally {
+      FailingException.fail = false;
+    }
+  }
+
+  interface TestClientInterfaceWithConstructorSideEffects {
+    @ErrorHandling(
+        codeSpecific = {
+          @ErrorCodes(
+              codes = {404},
+              generate = NoBodyException.class),
+          @ErrorCodes(
+              codes = {400},
+              generate = BodyException.class)
+        },
+        defaultException = FailingException.class)
+    void method1Test();
+  }
+
+  public static class NoBodyException extends Exception {}
+
+  public static class BodyException extends Exception {
+    @FeignExceptionConstructor
+    public BodyException(@ResponseBody String body) {
+      super(body);
+    }
+  }
+
+  public static class FailingException extends Exception {
+    static boolean fail;
+
+    public FailingException() {
+      if (fail) {
+        throw new UnsupportedOperationException();
+      }
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2012 The Feign Authors (feign@commonhaus.dev)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package feign.apttestgenerator;
+
+import java.util.List;
+
+/** A client method, with the fragments of source the client template needs. */
+public class ClientMethodDefinition {
+
+  public final String name;
+  public final String handler;
+  public final String returnType;
+  public final boolean isVoid;
+  public final String parameters;
+  public final String parameterClasses;
+  public final String throwsClause;
+  public final String arguments;
+  public final String declaredExceptions;
+
+  public ClientMethodDefinition(
+      String name,
+      String handler,
+      String returnType,
+      boolean isVoid,
+      List<ArgumentDefinition> args,
+      List<String> parameterClasses,
+      List<String> thrownTypes) {
+    this.name = name;
+    this.handler = handler;
+    this.returnType = returnType;
+    this.isVoid = isVoid;
+    final StringBuilder parameters = new StringBuilder();
+    final StringBuilder arguments = new StringBuilder();
+    for (ArgumentDefinition arg : args) {
+      parameters.append(parameters.length() > 0 ? ", " : "").append(arg.type).append(' ');
+      parameters.append(arg.name);
+      arguments.append(arguments.length() > 0 ? ", " : "").append(arg.name);
+    }
+    this.parameters = parameters.toString();
+    this.arguments = args.isEmpty() ? "null" : "new Object[] {" + arguments + "}";
+    this.parameterClasses = classLiterals(parameterClasses);
+    this.throwsClause = thrownTypes.isEmpty() ? "" : " throws " + String.join(", ", thrownTypes);
+    this.declaredExceptions = classLiterals(thrownTypes);
+  }
+
+  private static String classLiterals(List<String> types) {
+    final StringBuilder literals = new StringBuilder();
+    for (String type : types) {
+      literals.append(", ").append(type).append(".class");
+    }
+    return literals.toString();
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2012 The Feign Authors (feign@commonhaus.dev)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package feign.apttestgenerator;
+
+import com.github.jknack.handlebars.Context;
+import com.github.jknack.handlebars.EscapingStrategy;
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.context.FieldValueResolver;
+import com.github.jknack.handlebars.context.MapValueResolver;
+import com.github.jknack.handlebars.io.URLTemplateSource;
+import feign.GeneratedClient;
+import java.io.IOError;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Generates a client implementation for each interface with {@link feign.RequestLine} annotated
+ * methods, which Feign instantiates instead of a {@link java.lang.reflect.Proxy}. See {@link
+ * GeneratedClient} for how the clients are named and found.
+ *
+ * <p>Unlike {@link GenerateTestStubAPT}, this processor is not registered as a service, so it has
+ * to be listed explicitly in the annotation processors of the compiler.
+ */
+@SupportedAnnotationTypes({"feign.RequestLine"})
+public class GenerateClientAPT extends AbstractProcessor {
+
+  private final Set<String> generated = new HashSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    final Set<TypeElement> clientsToGenerate = new LinkedHashSet<>();
+    for (TypeElement annotation : annotations) {
+      for (Element annotated : roundEnv.getElementsAnnotatedWith(annotation)) {
+        final Element type = annotated.getEnclosingElement();
+        if (type.getKind() == ElementKind.INTERFACE) {
+          clientsToGenerate.add((TypeElement) type);
+        }
+      }
+    }
+    if (clientsToGenerate.isEmpty()) {
+      return false;
+    }
+
+    final Template template;
+    try {
+      template =
+          new Handlebars()
+              .with(EscapingStrategy.NOOP)
+              .compile(
+                  new URLTemplateSource(
+                      "client.mustache", getClass().getResource("/client.mustache")));
+    } catch (final IOException e) {
+      throw new IOError(e);
+    }
+
+    for (TypeElement type : clientsToGenerate) {
+      final Elements elements = processingEnv.getElementUtils();
+      final String className = GeneratedClient.className(elements.getBinaryName(type).toString());
+      if (!generated.add(className) || !canGenerate(type)) {
+        continue;
+      }
+      try {
+        final String jPackage = elements.getPackageOf(type).getQualifiedName().toString();
+        final ClientDefinition client =
+            new ClientDefinition(
+                jPackage,
+                className.substring(className.lastIndexOf('.') + 1),
+                type.getQualifiedName().toString());
+        final Context context =
+            Context.newBuilder(client)
+                .combine("client", client)
+                .combine("methods", readMethods(type))
+                .resolver(MapValueResolver.INSTANCE, FieldValueResolver.INSTANCE)
+                .build();
+        try (Writer writer =
+            processingEnv.getFiler().createSourceFile(className, type).openWriter()) {
+          writer.append(template.apply(context));
+        }
+      } catch (final IOException e) {
+        processingEnv
+            .getMessager()
+            .printMessage(Kind.ERROR, "Unable to generate client for " + type + ": " + e, type);
+      }
+    }
+    return false;
+  }
+
+  /** Generic types and methods, and private types, are left to proxies. */
+  private boolean canGenerate(TypeElement type) {
+    for (Element element = type;
+        element.getKind() != ElementKind.PACKAGE;
+        element = element.getEnclosingElement()) {
+      if (element.getModifiers().contains(Modifier.PRIVATE)) {
+        return skip(type, "it is private");
+      }
+    }
+    if (!type.getTypeParameters().isEmpty()) {
+      return skip(type, "it has type parameters");
+    }
+    for (ExecutableElement method : abstractMethods(type)) {
+      if (!method.getTypeParameters().isEmpty()) {
+        return skip(type, method + " has type parameters");
+      }
+    }
+    return true;
+  }
+
+  private boolean skip(TypeElement type, String reason) {
+    processingEnv
+        .getMessager()
+        .printMessage(Kind.NOTE, "No client generated for " + type + " as " + reason, type);
+    return false;
+  }
+
+  private List<ExecutableElement> abstractMethods(TypeElement type) {
+    return ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type)).stream()
+        .filter(method -> method.getModifiers().contains(Modifier.ABSTRACT))
+        .filter(method -> method.getEnclosingElement().getKind() == ElementKind.INTERFACE)
+        .collect(Collectors.toList());
+  }
+
+  private List<ClientMethodDefinition> readMethods(TypeElement type) {
+    final Types types = processingEnv.getTypeUtils();
+    final List<ClientMethodDefinition> methods = new ArrayList<>();
+    for (ExecutableElement method : abstractMethods(type)) {
+      /* signature as seen from the client type, handler looked up by the erased declaration */
+      final ExecutableType signature =
+          (ExecutableType) types.asMemberOf((DeclaredType) type.asType(), method);
+      final List<ArgumentDefinition> args = new ArrayList<>();
+      final List<String> parameterClasses = new ArrayList<>();
+      for (int i = 0; i < method.getParameters().size(); i++) {
+        final VariableElement parameter = method.getParameters().get(i);
+        args.add(
+            new ArgumentDefinition(
+                parameter.getSimpleName().toString(),
+                signature.getParameterTypes().get(i).toString()));
+        parameterClasses.add(types.erasure(parameter.asType()).toString());
+      }
+      final List<String> thrownTypes =
+          signature.getThrownTypes().stream()
+              .map(TypeMirror::toString)
+              .collect(Collectors.toList());
+      methods.add(
+          new ClientMethodDefinition(
+              method.getSimpleName().toString(),
+              "handler" + methods.size(),
+              signature.getReturnType().toString(),
+              signature.getReturnType().getKind() == TypeKind.VOID,
+              args,
+              parameterClasses,
+              thrownTypes));
+    }
+    return methods;
+  }
+}
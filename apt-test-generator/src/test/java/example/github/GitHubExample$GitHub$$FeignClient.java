@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2012 The Feign Authors (feign@commonhaus.dev)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package example.github;
+
+import feign.GeneratedClient;
+import feign.InvocationHandlerFactory.MethodHandler;
+
+@SuppressWarnings("unchecked")
+public final class GitHubExample$GitHub$$FeignClient
+    implements example.github.GitHubExample.GitHub {
+
+  private final GeneratedClient client;
+
+  private final MethodHandler handler0;
+
+  private final MethodHandler handler1;
+
+  private final MethodHandler handler2;
+
+  public GitHubExample$GitHub$$FeignClient(GeneratedClient client) {
+    this.client = client;
+
+    this.handler0 = client.handler("repos", java.lang.String.class);
+
+    this.handler1 = client.handler("contributors", java.lang.String.class, java.lang.String.class);
+
+    this.handler2 =
+        client.handler(
+            "createIssue",
+            example.github.GitHubExample.GitHub.Issue.class,
+            java.lang.String.class,
+            java.lang.String.class);
+  }
+
+  @Override
+  public java.util.List<example.github.GitHubExample.GitHub.Repository> repos(
+      java.lang.String owner) {
+    try {
+      return (java.util.List<example.github.GitHubExample.GitHub.Repository>)
+          this.handler0.invoke(new Object[] {owner});
+    } catch (Throwable e$) {
+      throw GeneratedClient.propagate(e$);
+    }
+  }
+
+  @Override
+  public java.util.List<example.github.GitHubExample.GitHub.Contributor> contributors(
+      java.lang.String owner, java.lang.String repo) {
+    try {
+      return (java.util.List<example.github.GitHubExample.GitHub.Contributor>)
+          this.handler1.invoke(new Object[] {owner, repo});
+    } catch (Throwable e$) {
+      throw GeneratedClient.propagate(e$);
+    }
+  }
+
+  @Override
+  public void createIssue(
+      example.github.GitHubExample.GitHub.Issue issue,
+      java.lang.String owner,
+      java.lang.String repo) {
+    try {
+      this.handler2.invoke(new Object[] {issue, owner, repo});
+    } catch (Throwable e$) {
+      throw GeneratedClient.propagate(e$);
+    }
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof GitHubExample$GitHub$$FeignClient
+        && client.target().equals(((GitHubExample$GitHub$$FeignClient) obj).client.target());
+  }
+
+  @Override
+  public int hashCode() {
+    return client.target().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return client.target().toString();
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2012 The Feign Authors (feign@commonhaus.dev)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package feign.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import feign.Util;
+import feign.codec.Decoder;
+import feign.jackson.JacksonDecoder;
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares decoding JSON responses through a {@link java.io.Reader}, as {@link JacksonDecoder} used
+ * to, with decoding the response bytes directly.
+ */
+@State(Scope.Thread)
+public class JacksonDecoderBenchmark {
+
+  @Param({"reader", "bytes"})
+  private String input;
+
+  @Param({"10", "1000"})
+  private String size;
+
+  private byte[] json;
+
+  private Response response;
+
+  private Decoder decoder;
+
+  private final Type type = new TypeReference<List<Car>>() {}.getType();
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1)
+  @Measurement(iterations = 10, time = 1)
+  @Fork(3)
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public Object decode() throws Exception {
+    return decoder.decode(response, type);
+  }
+
+  @SuppressWarnings("deprecation")
+  @Setup(Level.Invocation)
+  public void buildResponse() {
+    response =
+        Response.builder()
+            .status(200)
+            .reason("OK")
+            .request(Request.create(HttpMethod.GET, "/", Collections.emptyMap(), null, Util.UTF_8))
+            .headers(Collections.emptyMap())
+            .body(new ByteArrayInputStream(json), json.length)
+            .build();
+  }
+
+  @Setup(Level.Trial)
+  public void buildDecoder() {
+    json = carsJson(Integer.parseInt(size)).getBytes(Util.UTF_8);
+    switch (input) {
+      case "reader":
+        ObjectMapper mapper =
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        decoder =
+            (response, type) ->
+                mapper.readValue(
+                    response.body().asReader(response.charset()), mapper.constructType(type));
+        break;
+      case "bytes":
+        decoder = new JacksonDecoder();
+        break;
+      default:
+        throw new IllegalStateException("Unknown input: " + input);
+    }
+  }
+
+  private String carsJson(int count) {
+    String car = "{\"name\":\"c4\",\"manufacturer\":\"Citroën\"}";
+    StringBuilder builder = new StringBuilder("[");
+    builder.append(car);
+    for (int i = 1; i < count; i++) {
+      builder.append(",").append(car);
+    }
+    return builder.append("]").toString();
+  }
+
+  static class Car {
+    public String name;
+    public String manufacturer;
+  }
+}
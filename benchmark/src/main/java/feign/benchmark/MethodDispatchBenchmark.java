@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2012 The Feign Authors (feign@commonhaus.dev)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package feign.benchmark;
+
+import feign.Feign;
+import feign.InvocationHandlerFactory;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Target;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures only the cost of dispatching a proxy call to its {@link MethodHandler}: handlers do
+ * nothing. {@code method-map} is the previous dispatch, checking the method name and then looking
+ * the {@link Method} up in a map, {@code default} is the current {@link
+ * InvocationHandlerFactory.Default}.
+ */
+@Measurement(iterations = 5, time = 1)
+@Warmup(iterations = 10, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class MethodDispatchBenchmark {
+
+  @Param({"method-map", "default"})
+  private String dispatch;
+
+  private FeignTestInterface api;
+
+  @Setup
+  public void setup() {
+    InvocationHandlerFactory delegate =
+        "default".equals(dispatch)
+            ? new InvocationHandlerFactory.Default()
+            : MethodMapInvocationHandler::new;
+    api =
+        Feign.builder()
+            .invocationHandlerFactory(
+                (target, methodToHandler) -> {
+                  Map<Method, MethodHandler> noop = new LinkedHashMap<>();
+                  for (Method method : methodToHandler.keySet()) {
+                    noop.put(method, args -> null);
+                  }
+                  return delegate.create(target, noop);
+                })
+            .target(FeignTestInterface.class, "http://localhost");
+  }
+
+  @Benchmark
+  public Object firstMethod() {
+    return api.query();
+  }
+
+  @Benchmark
+  public Object lastMethod() {
+    api.headers("token");
+    return api;
+  }
+
+  @Benchmark
+  public int hashCodeMethod() {
+    return api.hashCode();
+  }
+
+  static class MethodMapInvocationHandler implements InvocationHandler {
+
+    private final Target<?> target;
+    private final Map<Method, MethodHandler> dispatch;
+
+    MethodMapInvocationHandler(Target<?> target, Map<Method, MethodHandler> dispatch) {
+      this.target = target;
+      this.dispatch = dispatch;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if ("equals".equals(method.getName())) {
+        return false;
+      } else if ("hashCode".equals(method.getName())) {
+        return hashCode();
+      } else if ("toString".equals(method.getName())) {
+        return toString();
+      } else if (!dispatch.containsKey(method)) {
+        throw new UnsupportedOperationException(method.getName());
+      }
+      return dispatch.get(method).invoke(args);
+    }
+
+    @Override
+    public int hashCode() {
+      return target.hashCode();
+    }
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2012 The Feign Authors (feign@commonhaus.dev)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package feign.benchmark;
+
+import feign.Client;
+import feign.Feign;
+import feign.Response;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the per invocation cost of resolving request templates with and without {@link
+ * feign.BaseBuilder#precompileRequestTemplates()}, without considering network. Run with {@code
+ * -prof gc} to compare the allocation rates.
+ */
+@Measurement(iterations = 5, time = 1)
+@Warmup(iterations = 10, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class PrecompiledRequestTemplateBenchmark {
+
+  @Param({"false", "true"})
+  private boolean precompiled;
+
+  private FeignTestInterface api;
+
+  @Setup
+  public void setup() {
+    Client fakeClient =
+        (request, options) ->
+            Response.builder()
+                .status(200)
+                .reason("ok")
+                .request(request)
+                .headers(Collections.emptyMap())
+                .body((byte[]) null)
+                .build();
+    Feign.Builder builder = Feign.builder().client(fakeClient);
+    if (precompiled) {
+      builder.precompileRequestTemplates();
+    }
+    api = builder.target(FeignTestInterface.class, "http://localhost");
+  }
+
+  @Benchmark
+  public Response literalQuery() {
+    return api.query();
+  }
+
+  @Benchmark
+  public Response mixedParams() {
+    return api.mixedParams(1234, "www", "CNAME");
+  }
+
+  @Benchmark
+  public void headers() {
+    api.headers("token");
+  }
+
+  @Benchmark
+  public void bodyTemplate() {
+    api.form("netflix", "denominator", "password");
+  }
+}
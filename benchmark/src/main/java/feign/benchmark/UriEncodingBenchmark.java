@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2012 The Feign Authors (feign@commonhaus.dev)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package feign.benchmark;
+
+import feign.Util;
+import feign.template.HeaderTemplate;
+import feign.template.QueryTemplate;
+import feign.template.UriTemplate;
+import feign.template.UriUtils;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the pct-encoding of expanded values, for path, query and header templates, with values
+ * which need no encoding, are already encoded or need encoding. Run with {@code -prof gc} to
+ * compare the allocation rates.
+ */
+@Measurement(iterations = 5, time = 1)
+@Warmup(iterations = 10, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class UriEncodingBenchmark {
+
+  @Param({"denominator-42", "feign%2Fcore%20docs", "feign/core docs?é"})
+  private String value;
+
+  private UriTemplate path;
+  private UriTemplate pathWithDecodedSlash;
+  private QueryTemplate query;
+  private HeaderTemplate header;
+  private Map<String, Object> variables;
+
+  @Setup
+  public void setup() {
+    path = UriTemplate.create("/repos/{owner}/{repo}/contributors", Util.UTF_8);
+    pathWithDecodedSlash =
+        UriTemplate.create("/repos/{owner}/{repo}/contributors", false, Util.UTF_8);
+    query = QueryTemplate.create("q", Collections.singletonList("{query}"), Util.UTF_8);
+    header = HeaderTemplate.create("X-Repository", Collections.singletonList("{owner}/{repo}"));
+    variables = new HashMap<>();
+    variables.put("owner", "OpenFeign");
+    variables.put("repo", value);
+    variables.put("query", value);
+  }
+
+  @Benchmark
+  public String encode() {
+    return UriUtils.encode(value, Util.UTF_8);
+  }
+
+  @Benchmark
+  public String encodeAllowingReserved() {
+    return UriUtils.encode(value, Util.UTF_8, true);
+  }
+
+  @Benchmark
+  public String expandPath() {
+    return path.expand(variables);
+  }
+
+  @Benchmark
+  public String expandPathDecodingSlashes() {
+    return pathWithDecodedSlash.expand(variables);
+  }
+
+  @Benchmark
+  public String expandQuery() {
+    return query.expand(variables);
+  }
+
+  @Benchmark
+  public String expandHeader() {
+    return header.expand(variables);
+  }
+}
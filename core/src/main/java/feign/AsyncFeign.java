@@ -32,9 +32,11 @@ import java.util.function.Supplier;
  * session cookies or tokens) is explicit, as calls for the same session may be done across several
  * threads. <br>
  * <br>
- * {@link Retryer} is not supported in this model, as that is a blocking API. {@link
- * ExceptionPropagationPolicy} is made redundant as {@link RetryableException} is never thrown. <br>
- * Alternative approaches to retrying can be handled through {@link AsyncClient clients}. <br>
+ * {@link Retryer retries} are scheduled after the delay returned by {@link
+ * Retryer#delayOrPropagate(RetryableException)}, so the backoff never blocks the thread completing
+ * the previous attempt. Retryers that only implement or override {@link
+ * Retryer#continueOrPropagate(RetryableException)} are called through it, and still block that
+ * thread while they sleep. <br>
  * <br>
  * Target interface methods must return {@link CompletableFuture} with a non-wildcard type. As the
  * completion is done by the {@link AsyncClient}, it is important that any subsequent processing on
@@ -66,6 +68,11 @@ public final class AsyncFeign<C> {
             });
   }
 
+  private static class LazyInitializedVirtualThreadExecutor {
+
+    private static final ExecutorService instance = VirtualThreads.newThreadPerTaskExecutor();
+  }
+
   public static class AsyncBuilder<C> extends BaseBuilder<AsyncBuilder<C>, AsyncFeign<C>> {
 
     private AsyncContextSupplier<C> defaultContextSupplier = () -> null;
@@ -85,6 +92,21 @@ public final class AsyncFeign<C> {
       return this;
     }
 
+    /**
+     * Executes requests with the default {@link Client} on a new virtual thread each, instead of a
+     * pool of platform threads, so thousands of concurrent slow calls don't each hold a platform
+     * thread. Replaces any {@link #client(AsyncClient) client} configured before. Falls back to
+     * platform threads on JVMs without virtual threads.
+     *
+     * @see VirtualThreads
+     */
+    @Experimental
+    public AsyncBuilder<C> virtualThreads() {
+      return client(
+          new AsyncClient.Default<>(
+              new Client.Default(null, null), LazyInitializedVirtualThreadExecutor.instance));
+    }
+
     public AsyncBuilder<C> methodInfoResolver(MethodInfoResolver methodInfoResolver) {
       this.methodInfoResolver = methodInfoResolver;
       return this;
@@ -202,7 +224,7 @@ public final class AsyncFeign<C> {
                       logLevel,
                       logger,
                       decoder,
-                      errorDecoder,
+                      responseErrorDecoder(),
                       dismiss404,
                       closeAfterDecode,
                       decodeVoid,
@@ -220,8 +242,10 @@ public final class AsyncFeign<C> {
               logLevel,
               propagationPolicy,
               methodInfoResolver,
-              new RequestTemplateFactoryResolver(encoder, queryMapEncoder),
-              options);
+              new RequestTemplateFactoryResolver(
+                  encoder, queryMapEncoder, precompileRequestTemplates),
+              options,
+              stacklessExceptions);
       final ReflectiveFeign<C> feign =
           new ReflectiveFeign<>(
               contract, methodHandlerFactory, invocationHandlerFactory, defaultContextSupplier);
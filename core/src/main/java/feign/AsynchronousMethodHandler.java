@@ -26,30 +26,80 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
-import java.util.stream.Stream;
 
 final class AsynchronousMethodHandler<C> implements MethodHandler {
 
+  /**
+   * Schedules the delayed retries, so the backoff never blocks the thread completing the previous
+   * attempt, often an I/O thread of the {@link AsyncClient}. The scheduled task only submits the
+   * next attempt to the client.
+   */
+  private static class LazyInitializedRetryScheduler {
+
+    private static final ScheduledExecutorService instance = create();
+
+    private static ScheduledExecutorService create() {
+      ScheduledThreadPoolExecutor scheduler =
+          new ScheduledThreadPoolExecutor(
+              1,
+              r -> {
+                final Thread result = Executors.defaultThreadFactory().newThread(r);
+                result.setName("feign-async-retry-" + result.getName());
+                result.setDaemon(true);
+                return result;
+              });
+      scheduler.setRemoveOnCancelPolicy(true);
+      return scheduler;
+    }
+  }
+
+  /**
+   * If {@link Retryer#delayOrPropagate(RetryableException)} can be called instead of {@link
+   * Retryer#continueOrPropagate(RetryableException)}: false when a retryer class overrides the
+   * latter but inherits the former, as its logic would be skipped.
+   */
+  private static final ClassValue<Boolean> SUPPORTS_RETRY_DELAY =
+      new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+          try {
+            final Class<?> delaying =
+                type.getMethod("delayOrPropagate", RetryableException.class).getDeclaringClass();
+            final Class<?> continuing =
+                type.getMethod("continueOrPropagate", RetryableException.class).getDeclaringClass();
+            return continuing == delaying || !delaying.isAssignableFrom(continuing);
+          } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+          }
+        }
+      };
+
   private final AsyncClient<C> client;
   private final C requestContext;
   private final AsyncResponseHandler asyncResponseHandler;
   private final MethodInfo methodInfo;
   private final MethodHandlerConfiguration methodHandlerConfiguration;
+  private final boolean stacklessExceptions;
 
   private AsynchronousMethodHandler(
       MethodHandlerConfiguration methodHandlerConfiguration,
       AsyncClient<C> client,
       AsyncResponseHandler asyncResponseHandler,
       C requestContext,
-      MethodInfo methodInfo) {
+      MethodInfo methodInfo,
+      boolean stacklessExceptions) {
     this.methodHandlerConfiguration =
         checkNotNull(methodHandlerConfiguration, "methodHandlerConfiguration");
     this.client = checkNotNull(client, "client for %s", methodHandlerConfiguration.getTarget());
     this.requestContext = requestContext;
     this.asyncResponseHandler = asyncResponseHandler;
     this.methodInfo = methodInfo;
+    this.stacklessExceptions = stacklessExceptions;
   }
 
   @Override
@@ -76,16 +126,28 @@ final class AsynchronousMethodHandler<C> implements MethodHandler {
         .whenComplete(
             (response, throwable) -> {
               if (throwable != null) {
-                if (!resultFuture.isDone() && shouldRetry(retryer, throwable, resultFuture)) {
-                  if (methodHandlerConfiguration.getLogLevel() != Logger.Level.NONE) {
-                    methodHandlerConfiguration
-                        .getLogger()
-                        .logRetry(
-                            methodHandlerConfiguration.getMetadata().configKey(),
-                            methodHandlerConfiguration.getLogLevel());
-                  }
+                if (resultFuture.isDone()) {
+                  return;
+                }
+                long delay = retryDelay(retryer, throwable, resultFuture);
+                if (delay < 0) {
+                  return;
+                }
+                if (methodHandlerConfiguration.getLogLevel() != Logger.Level.NONE) {
+                  methodHandlerConfiguration
+                      .getLogger()
+                      .logRetry(
+                          methodHandlerConfiguration.getMetadata().configKey(),
+                          methodHandlerConfiguration.getLogLevel());
+                }
 
+                if (delay == 0) {
                   resultFuture.setInner(executeAndDecode(template, options, retryer));
+                } else {
+                  LazyInitializedRetryScheduler.instance.schedule(
+                      () -> retry(template, options, retryer, resultFuture),
+                      delay,
+                      TimeUnit.MILLISECONDS);
                 }
               } else {
                 resultFuture.complete(response);
@@ -128,7 +190,28 @@ final class AsynchronousMethodHandler<C> implements MethodHandler {
     }
   }
 
-  private boolean shouldRetry(
+  private void retry(
+      RequestTemplate template,
+      Options options,
+      Retryer retryer,
+      CancellableFuture<Object> resultFuture) {
+    if (resultFuture.isDone()) {
+      return;
+    }
+    try {
+      resultFuture.setInner(executeAndDecode(template, options, retryer));
+    } catch (Throwable throwable) {
+      resultFuture.completeExceptionally(throwable);
+    }
+  }
+
+  /**
+   * Asks the retryer if the failed attempt should be retried.
+   *
+   * @return the delay in milliseconds until the next attempt, or a negative value if the result
+   *     future was completed with the failure.
+   */
+  private long retryDelay(
       Retryer retryer, Throwable throwable, CompletableFuture<Object> resultFuture) {
     if (throwable instanceof CompletionException) {
       throwable = throwable.getCause();
@@ -136,13 +219,16 @@ final class AsynchronousMethodHandler<C> implements MethodHandler {
 
     if (!(throwable instanceof RetryableException)) {
       resultFuture.completeExceptionally(throwable);
-      return false;
+      return -1;
     }
 
     RetryableException retryableException = (RetryableException) throwable;
     try {
-      retryer.continueOrPropagate(retryableException);
-      return true;
+      if (!SUPPORTS_RETRY_DELAY.get(retryer.getClass())) {
+        retryer.continueOrPropagate(retryableException);
+        return 0;
+      }
+      return Math.max(retryer.delayOrPropagate(retryableException), 0);
     } catch (RetryableException th) {
       Throwable cause = th.getCause();
       if (methodHandlerConfiguration.getPropagationPolicy() == UNWRAP && cause != null) {
@@ -150,7 +236,7 @@ final class AsynchronousMethodHandler<C> implements MethodHandler {
       } else {
         resultFuture.completeExceptionally(th);
       }
-      return false;
+      return -1;
     }
   }
 
@@ -191,7 +277,7 @@ final class AsynchronousMethodHandler<C> implements MethodHandler {
                           elapsedTime(start));
                 }
 
-                throw errorExecuting(request, ioException);
+                throw errorExecuting(request, ioException, stacklessExceptions);
               } else {
                 throw completionException;
               }
@@ -222,14 +308,8 @@ final class AsynchronousMethodHandler<C> implements MethodHandler {
   }
 
   private Options findOptions(Object[] argv) {
-    if (argv == null || argv.length == 0) {
-      return this.methodHandlerConfiguration.getOptions();
-    }
-    return Stream.of(argv)
-        .filter(Options.class::isInstance)
-        .map(Options.class::cast)
-        .findFirst()
-        .orElse(this.methodHandlerConfiguration.getOptions());
+    Options options = methodHandlerConfiguration.findOptionsArgument(argv);
+    return options != null ? options : this.methodHandlerConfiguration.getOptions();
   }
 
   static class Factory<C> implements MethodHandler.Factory<C> {
@@ -244,6 +324,7 @@ final class AsynchronousMethodHandler<C> implements MethodHandler {
     private final MethodInfoResolver methodInfoResolver;
     private final RequestTemplateFactoryResolver requestTemplateFactoryResolver;
     private final Options options;
+    private final boolean stacklessExceptions;
 
     Factory(
         AsyncClient<C> client,
@@ -255,7 +336,8 @@ final class AsynchronousMethodHandler<C> implements MethodHandler {
         ExceptionPropagationPolicy propagationPolicy,
         MethodInfoResolver methodInfoResolver,
         RequestTemplateFactoryResolver requestTemplateFactoryResolver,
-        Options options) {
+        Options options,
+        boolean stacklessExceptions) {
       this.client = checkNotNull(client, "client");
       this.retryer = checkNotNull(retryer, "retryer");
       this.requestInterceptors = checkNotNull(requestInterceptors, "requestInterceptors");
@@ -267,6 +349,7 @@ final class AsynchronousMethodHandler<C> implements MethodHandler {
       this.requestTemplateFactoryResolver =
           checkNotNull(requestTemplateFactoryResolver, "requestTemplateFactoryResolver");
       this.options = checkNotNull(options, "options");
+      this.stacklessExceptions = stacklessExceptions;
     }
 
     @Override
@@ -290,7 +373,8 @@ final class AsynchronousMethodHandler<C> implements MethodHandler {
           client,
           responseHandler,
           requestContext,
-          methodInfoResolver.resolve(target.type(), metadata.method()));
+          methodInfoResolver.resolve(target.type(), metadata.method()),
+          stacklessExceptions);
     }
   }
 }
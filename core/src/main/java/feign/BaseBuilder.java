@@ -24,9 +24,10 @@ import feign.codec.Decoder;
 import feign.codec.Encoder;
 import feign.codec.ErrorDecoder;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -45,6 +46,8 @@ public abstract class BaseBuilder<B extends BaseBuilder<B, T>, T> implements Clo
   protected Decoder decoder = new Decoder.Default();
   protected boolean closeAfterDecode = true;
   protected boolean decodeVoid = false;
+  protected boolean precompileRequestTemplates = false;
+  protected boolean stacklessExceptions = false;
   protected QueryMapEncoder queryMapEncoder = QueryMap.MapEncoder.FIELD.instance();
   protected ErrorDecoder errorDecoder = new ErrorDecoder.Default();
   protected Options options = new Options();
@@ -109,6 +112,36 @@ public abstract class BaseBuilder<B extends BaseBuilder<B, T>, T> implements Clo
     return thisB;
   }
 
+  /**
+   * Compiles the bindings between method arguments and template expressions once, when the method
+   * handlers are created, instead of building a variable map on each invocation. Methods without a
+   * body or a {@link java.net.URI} parameter are also resolved directly from the parsed template,
+   * skipping the intermediate copy of the {@link RequestTemplate}.
+   *
+   * <p>The resulting requests are the same as without this flag, only the per invocation
+   * allocations are reduced.
+   */
+  @Experimental
+  public B precompileRequestTemplates() {
+    this.precompileRequestTemplates = true;
+    return thisB;
+  }
+
+  /**
+   * Skips the stack trace of the {@link FeignException FeignExceptions} created by the {@link
+   * ErrorDecoder} and of the {@link RetryableException RetryableExceptions} Feign raises on I/O
+   * errors. Filling the stack trace is the main cost of these exceptions, which matters when error
+   * responses such as 404 are a common outcome.
+   *
+   * <p>Status, message, request, headers and body are kept, but the exceptions no longer show where
+   * the call was made from.
+   */
+  @Experimental
+  public B stacklessExceptions() {
+    this.stacklessExceptions = true;
+    return thisB;
+  }
+
   public B queryMapEncoder(QueryMapEncoder queryMapEncoder) {
     this.queryMapEncoder = queryMapEncoder;
     return thisB;
@@ -233,34 +266,9 @@ public abstract class BaseBuilder<B extends BaseBuilder<B, T>, T> implements Clo
     try {
       B clone = (B) thisB.clone();
 
-      getFieldsToEnrich()
-          .forEach(
-              field -> {
-                field.setAccessible(true);
-                try {
-                  final Object originalValue = field.get(clone);
-                  final Object enriched;
-                  if (originalValue instanceof List) {
-                    Type ownerType =
-                        ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
-                    enriched =
-                        ((List) originalValue)
-                            .stream()
-                                .map(
-                                    value ->
-                                        Capability.enrich(
-                                            value, (Class<?>) ownerType, capabilities))
-                                .collect(Collectors.toList());
-                  } else {
-                    enriched = Capability.enrich(originalValue, field.getType(), capabilities);
-                  }
-                  field.set(clone, enriched);
-                } catch (IllegalArgumentException | IllegalAccessException e) {
-                  throw new RuntimeException("Unable to enrich field " + field, e);
-                } finally {
-                  field.setAccessible(false);
-                }
-              });
+      for (EnrichedField field : ENRICHED_FIELDS.get(getClass())) {
+        field.enrich(clone, capabilities);
+      }
 
       return clone;
     } catch (CloneNotSupportedException e) {
@@ -269,20 +277,83 @@ public abstract class BaseBuilder<B extends BaseBuilder<B, T>, T> implements Clo
   }
 
   List<Field> getFieldsToEnrich() {
-    return Util.allFields(getClass()).stream()
-        // exclude anything generated by compiler
-        .filter(field -> !field.isSynthetic())
-        // and capabilities itself
-        .filter(field -> !Objects.equals(field.getName(), "capabilities"))
-        // and thisB helper field
-        .filter(field -> !Objects.equals(field.getName(), "thisB"))
-        // skip primitive types
-        .filter(field -> !field.getType().isPrimitive())
-        // skip enumerations
-        .filter(field -> !field.getType().isEnum())
+    return ENRICHED_FIELDS.get(getClass()).stream()
+        .map(enrichedField -> enrichedField.field)
         .collect(Collectors.toList());
   }
 
+  /**
+   * The fields of each builder class which capabilities enrich, found once per class rather than on
+   * every {@link #build()}.
+   */
+  private static final ClassValue<List<EnrichedField>> ENRICHED_FIELDS =
+      new ClassValue<List<EnrichedField>>() {
+        @Override
+        protected List<EnrichedField> computeValue(Class<?> type) {
+          return Collections.unmodifiableList(
+              Util.allFields(type).stream()
+                  // exclude anything generated by compiler
+                  .filter(field -> !field.isSynthetic())
+                  // and static fields, such as this one
+                  .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                  // and capabilities itself
+                  .filter(field -> !Objects.equals(field.getName(), "capabilities"))
+                  // and thisB helper field
+                  .filter(field -> !Objects.equals(field.getName(), "thisB"))
+                  // skip primitive types
+                  .filter(field -> !field.getType().isPrimitive())
+                  // skip enumerations
+                  .filter(field -> !field.getType().isEnum())
+                  .map(EnrichedField::new)
+                  .collect(Collectors.toList()));
+        }
+      };
+
+  private static final class EnrichedField {
+
+    private final Field field;
+
+    /** The type capabilities enrich, the element type for lists. */
+    private final Class<?> componentType;
+
+    private final boolean list;
+
+    private EnrichedField(Field field) {
+      this.field = field;
+      this.list = List.class.isAssignableFrom(field.getType());
+      this.componentType =
+          list
+              ? (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0]
+              : field.getType();
+      field.setAccessible(true);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void enrich(Object builder, List<Capability> capabilities) {
+      try {
+        final Object originalValue = field.get(builder);
+        final Object enriched;
+        if (list && originalValue instanceof List) {
+          enriched =
+              ((List) originalValue)
+                  .stream()
+                      .map(value -> Capability.enrich(value, componentType, capabilities))
+                      .collect(Collectors.toList());
+        } else {
+          enriched = Capability.enrich(originalValue, field.getType(), capabilities);
+        }
+        field.set(builder, enriched);
+      } catch (IllegalArgumentException | IllegalAccessException e) {
+        throw new RuntimeException("Unable to enrich field " + field, e);
+      }
+    }
+  }
+
+  /**
+   * Builds the {@code T} configured by this builder, after letting the capabilities enrich its
+   * components. The result is meant to be reused: creating clients from it, for instance with
+   * {@link Feign#newInstance(Target)}, skips the enrichment and contract parsing this involves.
+   */
   public final T build() {
     return enrich().internalBuild();
   }
@@ -300,4 +371,14 @@ public abstract class BaseBuilder<B extends BaseBuilder<B, T>, T> implements Clo
     return (ResponseInterceptor.Chain)
         Capability.enrich(executionChain, ResponseInterceptor.Chain.class, capabilities);
   }
+
+  /** The configured {@link ErrorDecoder}, creating stackless exceptions if requested. */
+  protected ErrorDecoder responseErrorDecoder() {
+    if (!stacklessExceptions) {
+      return errorDecoder;
+    }
+    final ErrorDecoder delegate = errorDecoder;
+    return (methodKey, response) ->
+        FeignException.withoutStackTrace(() -> delegate.decode(methodKey, response));
+  }
 }
@@ -21,7 +21,6 @@ import feign.codec.Decoder;
 import feign.codec.Encoder;
 import feign.codec.ErrorDecoder;
 import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -56,10 +55,7 @@ public interface Capability {
   }
 
   static Object invoke(Object target, Capability capability, Class<?> capabilityToEnrich) {
-    return Arrays.stream(capability.getClass().getMethods())
-        .filter(method -> method.getName().equals("enrich"))
-        .filter(method -> method.getReturnType().isAssignableFrom(capabilityToEnrich))
-        .findFirst()
+    return CapabilityMethods.enrichMethod(capability.getClass(), capabilityToEnrich)
         .map(
             method -> {
               try {
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2012 The Feign Authors (feign@commonhaus.dev)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package feign;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The {@code enrich} methods of each {@link Capability} class, resolved once per component type
+ * instead of scanning {@link Class#getMethods()} on every build.
+ */
+final class CapabilityMethods {
+
+  private static final ClassValue<ConcurrentMap<Class<?>, Optional<Method>>> METHODS =
+      new ClassValue<ConcurrentMap<Class<?>, Optional<Method>>>() {
+        @Override
+        protected ConcurrentMap<Class<?>, Optional<Method>> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  private CapabilityMethods() {}
+
+  /**
+   * The method of the capability enriching the component type.
+   *
+   * @return the method, or empty if the capability has none for the component type.
+   */
+  static Optional<Method> enrichMethod(Class<?> capabilityType, Class<?> componentType) {
+    return METHODS
+        .get(capabilityType)
+        .computeIfAbsent(componentType, type -> findEnrichMethod(capabilityType, type));
+  }
+
+  private static Optional<Method> findEnrichMethod(
+      Class<?> capabilityType, Class<?> componentType) {
+    return Arrays.stream(capabilityType.getMethods())
+        .filter(method -> method.getName().equals("enrich"))
+        .filter(method -> method.getReturnType().isAssignableFrom(componentType))
+        .findFirst();
+  }
+}
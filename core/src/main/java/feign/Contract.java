@@ -255,6 +255,11 @@ public interface Contract {
 
     static final Pattern REQUEST_LINE_PATTERN = Pattern.compile("^([A-Z]+)[ ]*(.*)$");
 
+    @Override
+    protected boolean isStateless() {
+      return getClass() == Default.class;
+    }
+
     public Default() {
       super.registerClassAnnotation(
           Headers.class,
@@ -40,6 +40,20 @@ public abstract class DeclarativeContract extends BaseContract {
     return super.parseAndValidateMetadata(targetType);
   }
 
+  /**
+   * If every instance of this exact class parses interfaces the same way, letting clients built
+   * with different instances share the metadata parsed for an interface, rather than parsing it
+   * again. This holds for contracts registering a fixed set of processors in their constructor.
+   * Implementations should compare {@link #getClass()} to their own class, as subclasses may take
+   * parsing options.
+   *
+   * @return false unless overridden.
+   */
+  @Experimental
+  protected boolean isStateless() {
+    return false;
+  }
+
   /**
    * Called by parseAndValidateMetadata twice, first on the declaring class, then on the target type
    * (unless they are the same).
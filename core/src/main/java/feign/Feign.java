@@ -209,7 +209,7 @@ public abstract class Feign {
               logLevel,
               logger,
               decoder,
-              errorDecoder,
+              responseErrorDecoder(),
               dismiss404,
               closeAfterDecode,
               decodeVoid,
@@ -223,8 +223,10 @@ public abstract class Feign {
               logger,
               logLevel,
               propagationPolicy,
-              new RequestTemplateFactoryResolver(encoder, queryMapEncoder),
-              options);
+              new RequestTemplateFactoryResolver(
+                  encoder, queryMapEncoder, precompileRequestTemplates),
+              options,
+              stacklessExceptions);
       return new ReflectiveFeign<>(
           contract, methodHandlerFactory, invocationHandlerFactory, () -> null);
     }
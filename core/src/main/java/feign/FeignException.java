@@ -21,6 +21,7 @@ import static java.util.regex.Pattern.CASE_INSENSITIVE;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.Buffer;
@@ -28,10 +29,12 @@ import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -46,6 +49,12 @@ public class FeignException extends RuntimeException {
   private Map<String, Collection<String>> responseHeaders;
   private final Request request;
 
+  /**
+   * Set while creating exceptions for a client built with {@link
+   * BaseBuilder#stacklessExceptions()}.
+   */
+  private static final ThreadLocal<Boolean> STACKLESS = new ThreadLocal<>();
+
   protected FeignException(int status, String message, Throwable cause) {
     super(message, cause);
     this.status = status;
@@ -130,6 +139,35 @@ public class FeignException extends RuntimeException {
     return this.status;
   }
 
+  /**
+   * Skips capturing the stack trace when created by {@link #withoutStackTrace(Supplier)}.
+   *
+   * @return this exception.
+   */
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    if (STACKLESS.get() != null) {
+      return this;
+    }
+    return super.fillInStackTrace();
+  }
+
+  /**
+   * Runs {@code factory} so that the Feign exceptions it creates on this thread have no stack
+   * trace. Status, message, request, headers and body are kept as usual.
+   */
+  static <T> T withoutStackTrace(Supplier<T> factory) {
+    if (STACKLESS.get() != null) {
+      return factory.get();
+    }
+    STACKLESS.set(Boolean.TRUE);
+    try {
+      return factory.get();
+    } finally {
+      STACKLESS.remove();
+    }
+  }
+
   /**
    * The Response Body, if present.
    *
@@ -182,7 +220,7 @@ public class FeignException extends RuntimeException {
         format("%s reading %s %s", cause.getMessage(), request.httpMethod(), request.url()),
         request,
         cause,
-        request.body(),
+        request.isStreaming() ? null : request.body(),
         request.headers());
   }
 
@@ -192,11 +230,43 @@ public class FeignException extends RuntimeException {
 
   public static FeignException errorStatus(
       String methodKey, Response response, Integer maxBodyBytesLength, Integer maxBodyCharsLength) {
+    return errorStatus(methodKey, response, maxBodyBytesLength, maxBodyCharsLength, false);
+  }
+
+  /**
+   * Creates the exception for an error response.
+   *
+   * @param maxBodyBytesLength bodies up to this length are shown in full in the message, longer
+   *     ones are previewed. Defaults to 400 when null.
+   * @param maxBodyCharsLength length of the preview of longer bodies. Defaults to 200 when null.
+   * @param boundBodyCapture if only the first {@code maxBodyBytesLength} bytes of the body are
+   *     read, leaving the rest to be discarded when the response is closed. {@link #responseBody()}
+   *     then holds this prefix only.
+   */
+  @Experimental
+  public static FeignException errorStatus(
+      String methodKey,
+      Response response,
+      Integer maxBodyBytesLength,
+      Integer maxBodyCharsLength,
+      boolean boundBodyCapture) {
 
     byte[] body = {};
+    Integer bodyLength = null;
     try {
       if (response.body() != null) {
-        body = Util.toByteArray(response.body().asInputStream());
+        if (boundBodyCapture) {
+          bodyLength = response.body().length();
+          body =
+              readPrefix(
+                  response.body().asInputStream(),
+                  maxBodyBytesLength != null
+                      ? maxBodyBytesLength
+                      : FeignExceptionMessageBuilder.MAX_BODY_BYTES_LENGTH,
+                  bodyLength);
+        } else {
+          body = Util.toByteArray(response.body().asInputStream());
+        }
       }
     } catch (IOException ignored) { // NOPMD
     }
@@ -207,12 +277,29 @@ public class FeignException extends RuntimeException {
             .withMethodKey(methodKey)
             .withMaxBodyBytesLength(maxBodyBytesLength)
             .withMaxBodyCharsLength(maxBodyCharsLength)
-            .withBody(body)
+            .withBody(body, boundBodyCapture ? bodyLength : Integer.valueOf(body.length))
             .build();
 
     return errorStatus(response.status(), message, response.request(), body, response.headers());
   }
 
+  /**
+   * Reads up to {@code limit} bytes, sizing the buffer after the body's length when known. The rest
+   * is discarded when the response is closed.
+   */
+  private static byte[] readPrefix(InputStream in, int limit, Integer length) throws IOException {
+    final byte[] buffer = new byte[length != null ? Math.min(limit, length) : limit];
+    int read = 0;
+    while (read < buffer.length) {
+      final int count = in.read(buffer, read, buffer.length - read);
+      if (count == -1) {
+        break;
+      }
+      read += count;
+    }
+    return read == buffer.length ? buffer : Arrays.copyOf(buffer, read);
+  }
+
   private static FeignException errorStatus(
       int status,
       String message,
@@ -292,6 +379,14 @@ public class FeignException extends RuntimeException {
     }
   }
 
+  static FeignException errorExecuting(
+      Request request, IOException cause, boolean withoutStackTrace) {
+    if (withoutStackTrace) {
+      return withoutStackTrace(() -> errorExecuting(request, cause));
+    }
+    return errorExecuting(request, cause);
+  }
+
   static FeignException errorExecuting(Request request, IOException cause) {
     final Long nonRetryable = null;
     return new RetryableException(
@@ -439,12 +534,13 @@ public class FeignException extends RuntimeException {
 
   private static class FeignExceptionMessageBuilder {
 
-    private static final int MAX_BODY_BYTES_LENGTH = 400;
+    static final int MAX_BODY_BYTES_LENGTH = 400;
     private static final int MAX_BODY_CHARS_LENGTH = 200;
 
     private Response response;
 
     private byte[] body;
+    private Integer bodyLength;
     private String methodKey;
     private Integer maxBodyBytesLength;
     private Integer maxBodyCharsLength;
@@ -454,8 +550,12 @@ public class FeignException extends RuntimeException {
       return this;
     }
 
-    public FeignExceptionMessageBuilder withBody(byte[] body) {
+    /**
+     * @param bodyLength length of the whole body, which may exceed the bytes read. Null if unknown.
+     */
+    public FeignExceptionMessageBuilder withBody(byte[] body, Integer bodyLength) {
       this.body = body;
+      this.bodyLength = bodyLength;
       return this;
     }
 
@@ -521,7 +621,10 @@ public class FeignException extends RuntimeException {
         reader.read(result);
         reader.close();
         ((Buffer) result).flip();
-        return result + "... (" + body.length + " bytes)";
+        return result
+            + (bodyLength != null
+                ? "... (" + bodyLength + " bytes)"
+                : "... (at least " + body.length + " bytes)");
       } catch (IOException e) {
         return e + ", failed to parse response";
       }
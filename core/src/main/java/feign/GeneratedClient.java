@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2012 The Feign Authors (feign@commonhaus.dev)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package feign;
+
+import static feign.Util.checkNotNull;
+
+import feign.InvocationHandlerFactory.MethodHandler;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Handlers of a client implementation generated at compile time, passed to its constructor.
+ *
+ * <p>A generated client implements the api interface directly, each method invoking its {@link
+ * MethodHandler}, so no {@link java.lang.reflect.Proxy} is involved. It is named after the
+ * interface: its binary name followed by {@value #CLASS_NAME_SUFFIX}, in the same package. For
+ * example, {@code example.GitHub.Api} is implemented by {@code example.GitHub$Api$$FeignClient}, a
+ * name no other interface can be mapped to. When such a class is found, {@link ReflectiveFeign}
+ * instantiates it instead of a proxy, unless a custom {@link InvocationHandlerFactory} is
+ * configured, which only proxies support.
+ */
+@Experimental
+public final class GeneratedClient {
+
+  public static final String CLASS_NAME_SUFFIX = "$$FeignClient";
+
+  private static final ClassValue<Optional<Constructor<?>>> CONSTRUCTORS =
+      new ClassValue<Optional<Constructor<?>>>() {
+        @Override
+        protected Optional<Constructor<?>> computeValue(Class<?> type) {
+          return findConstructor(type);
+        }
+      };
+
+  private final Target<?> target;
+  private final Map<Signature, MethodHandler> handlers;
+
+  GeneratedClient(Target<?> target, Map<Method, MethodHandler> dispatch) {
+    this.target = checkNotNull(target, "target");
+    checkNotNull(dispatch, "dispatch for %s", target);
+    this.handlers = new HashMap<>(dispatch.size() * 4 / 3 + 1);
+    for (Map.Entry<Method, MethodHandler> entry : dispatch.entrySet()) {
+      Method method = entry.getKey();
+      handlers.put(new Signature(method.getName(), method.getParameterTypes()), entry.getValue());
+    }
+  }
+
+  public Target<?> target() {
+    return target;
+  }
+
+  /**
+   * The handler of the api method with this name and these erased parameter types.
+   *
+   * @throws IllegalStateException if the contract did not create a handler for the method.
+   */
+  public MethodHandler handler(String name, Class<?>... parameterTypes) {
+    MethodHandler handler = handlers.get(new Signature(name, parameterTypes));
+    if (handler != null) {
+      return handler;
+    }
+    throw new IllegalStateException(
+        "No handler for " + name + Arrays.toString(parameterTypes) + " of " + target);
+  }
+
+  /**
+   * Rethrows an exception raised by a {@link MethodHandler} the way a proxy would: unchecked and
+   * declared exceptions as they are, others wrapped in an {@link UndeclaredThrowableException}.
+   *
+   * @param e raised by the handler.
+   * @param declaredExceptions the exceptions declared by the api method.
+   * @return never returns, declared so callers can {@code throw} the result.
+   */
+  public static RuntimeException propagate(Throwable e, Class<?>... declaredExceptions) {
+    if (e instanceof RuntimeException) {
+      throw (RuntimeException) e;
+    }
+    if (e instanceof Error) {
+      throw (Error) e;
+    }
+    for (Class<?> declared : declaredExceptions) {
+      if (declared.isInstance(e)) {
+        throw GeneratedClient.<RuntimeException>sneakyThrow(e);
+      }
+    }
+    throw new UndeclaredThrowableException(e);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E extends Throwable> E sneakyThrow(Throwable e) throws E {
+    throw (E) e;
+  }
+
+  /**
+   * Instantiates the generated client of the target type, if there is one.
+   *
+   * @return the client, or {@literal null} if none was generated for the target type.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> T newInstance(Target<T> target, Map<Method, MethodHandler> dispatch) {
+    Optional<Constructor<?>> constructor = CONSTRUCTORS.get(target.type());
+    if (!constructor.isPresent()) {
+      return null;
+    }
+    try {
+      return (T) constructor.get().newInstance(new GeneratedClient(target, dispatch));
+    } catch (InvocationTargetException e) {
+      throw propagate(e.getCause());
+    } catch (InstantiationException | IllegalAccessException e) {
+      throw new IllegalStateException("Cannot instantiate the client generated for " + target, e);
+    }
+  }
+
+  /**
+   * The name of the client generated for the api type.
+   *
+   * @param binaryName of the api interface, as returned by {@link Class#getName()}.
+   * @return the binary name of the generated client.
+   */
+  public static String className(String binaryName) {
+    return binaryName + CLASS_NAME_SUFFIX;
+  }
+
+  private static Optional<Constructor<?>> findConstructor(Class<?> type) {
+    try {
+      Class<?> generated = Class.forName(className(type.getName()), false, type.getClassLoader());
+      if (!type.isAssignableFrom(generated)) {
+        return Optional.empty();
+      }
+      return Optional.of(generated.getConstructor(GeneratedClient.class));
+    } catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+      return Optional.empty();
+    }
+  }
+
+  /** Name and erased parameter types of an api method. */
+  private static final class Signature {
+
+    private final String name;
+    private final Class<?>[] parameterTypes;
+
+    Signature(String name, Class<?>[] parameterTypes) {
+      this.name = name;
+      this.parameterTypes = parameterTypes;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof Signature)) {
+        return false;
+      }
+      Signature other = (Signature) obj;
+      return name.equals(other.name) && Arrays.equals(parameterTypes, other.parameterTypes);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * name.hashCode() + Arrays.hashCode(parameterTypes);
+    }
+  }
+}
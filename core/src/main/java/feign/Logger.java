@@ -21,9 +21,22 @@ import static feign.Util.ensureClosed;
 import static feign.Util.valuesOrEmpty;
 import static java.util.Objects.nonNull;
 
+import java.io.Closeable;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.PrintWriter;
+import java.io.Reader;
 import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 import java.util.logging.FileHandler;
 import java.util.logging.LogRecord;
 import java.util.logging.SimpleFormatter;
@@ -31,6 +44,8 @@ import java.util.logging.SimpleFormatter;
 /** Simple logging abstraction for debug messages. Adapted from {@code retrofit.RestAdapter.Log}. */
 public abstract class Logger {
 
+  private int maxStreamedBodyBytes = -1;
+
   protected static String methodTag(String configKey) {
     return '[' + configKey.substring(0, configKey.indexOf('(')) + "] ";
   }
@@ -65,6 +80,23 @@ public abstract class Logger {
     return true;
   }
 
+  /**
+   * Logs response bodies while they are read, instead of reading them fully into memory before they
+   * are decoded. The response keeps streaming, so large downloads and streaming return types behave
+   * as they do without logging. Only the first {@code maxLoggedBodyBytes} bytes are logged at
+   * {@link Level#FULL}, the rest is counted. The end of the response is logged once its body is
+   * closed, so it may follow logs of the decoding.
+   *
+   * @param maxLoggedBodyBytes maximum number of body bytes logged per response.
+   * @return this logger.
+   */
+  @Experimental
+  public Logger streamResponseBodies(int maxLoggedBodyBytes) {
+    Util.checkArgument(maxLoggedBodyBytes >= 0, "maxLoggedBodyBytes must not be negative");
+    this.maxStreamedBodyBytes = maxLoggedBodyBytes;
+    return this;
+  }
+
   protected void logRequest(String configKey, Level logLevel, Request request) {
     String protocolVersion = resolveProtocolVersion(request.protocolVersion());
     log(configKey, "---> %s %s %s", request.httpMethod().name(), request.url(), protocolVersion);
@@ -79,6 +111,14 @@ public abstract class Logger {
       }
 
       int bodyLength = 0;
+      if (request.isStreaming()) {
+        if (logLevel.ordinal() >= Level.FULL.ordinal()) {
+          log(configKey, ""); // CRLF
+          log(configKey, "%s", "Binary data");
+        }
+        log(configKey, "---> END HTTP (streaming body)");
+        return;
+      }
       if (request.body() != null) {
         bodyLength = request.length();
         if (logLevel.ordinal() >= Level.FULL.ordinal()) {
@@ -119,6 +159,11 @@ public abstract class Logger {
       if (response.body() != null && !(status == 204 || status == 205)) {
         // HTTP 204 No Content "...response MUST NOT include a message-body"
         // HTTP 205 Reset Content "...response MUST NOT include an entity"
+        if (maxStreamedBodyBytes >= 0) {
+          return response.toBuilder()
+              .body(new LoggedBody(configKey, logLevel, response.body(), maxStreamedBodyBytes))
+              .build();
+        }
         if (logLevel.ordinal() >= Level.FULL.ordinal()) {
           log(configKey, ""); // CRLF
         }
@@ -137,6 +182,134 @@ public abstract class Logger {
     return response;
   }
 
+  /** Response body logging its content as it is read, and the end of the response on close. */
+  private final class LoggedBody implements Response.Body {
+
+    private final String configKey;
+    private final Level logLevel;
+    private final Response.Body delegate;
+    private final byte[] captured;
+    private final AtomicBoolean logged = new AtomicBoolean();
+    private int capturedLength;
+    private long bodyLength;
+
+    LoggedBody(String configKey, Level logLevel, Response.Body delegate, int maxLoggedBodyBytes) {
+      this.configKey = configKey;
+      this.logLevel = logLevel;
+      this.delegate = delegate;
+      this.captured = new byte[logLevel.ordinal() >= Level.FULL.ordinal() ? maxLoggedBodyBytes : 0];
+    }
+
+    @Override
+    public Integer length() {
+      return delegate.length();
+    }
+
+    @Override
+    public boolean isRepeatable() {
+      return false;
+    }
+
+    @Override
+    public InputStream asInputStream() throws IOException {
+      return new FilterInputStream(delegate.asInputStream()) {
+
+        @Override
+        public int read() throws IOException {
+          int read = super.read();
+          if (read != -1) {
+            capture(new byte[] {(byte) read}, 0, 1);
+          }
+          return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+          int read = super.read(b, off, len);
+          if (read > 0) {
+            capture(b, off, read);
+          }
+          return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+          long skipped = super.skip(n);
+          bodyLength += skipped;
+          return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+          return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            logEnd();
+          }
+        }
+      };
+    }
+
+    @Override
+    public Reader asReader(Charset charset) throws IOException {
+      return new InputStreamReader(asInputStream(), charset);
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        delegate.close();
+      } finally {
+        logEnd();
+      }
+    }
+
+    private void capture(byte[] b, int off, int len) {
+      int count = Math.min(len, captured.length - capturedLength);
+      if (count > 0) {
+        System.arraycopy(b, off, captured, capturedLength, count);
+        capturedLength += count;
+      }
+      bodyLength += len;
+    }
+
+    private void logEnd() {
+      if (!logged.compareAndSet(false, true)) {
+        return;
+      }
+      if (logLevel.ordinal() >= Level.FULL.ordinal() && capturedLength > 0) {
+        log(configKey, ""); // CRLF
+        boolean truncated = bodyLength > capturedLength;
+        byte[] bodyData =
+            Arrays.copyOf(
+                captured,
+                truncated ? completeUtf8Length(captured, capturedLength) : capturedLength);
+        log(
+            configKey,
+            "%s%s",
+            decodeOrDefault(bodyData, UTF_8, "Binary data"),
+            truncated ? "..." : "");
+      }
+      log(configKey, "<--- END HTTP (%s-byte body)", bodyLength);
+    }
+  }
+
+  /** Length of the data without a trailing UTF-8 sequence cut short. */
+  private static int completeUtf8Length(byte[] data, int length) {
+    int start = length - 1;
+    while (start > 0 && length - start < 4 && (data[start] & 0xC0) == 0x80) {
+      start--;
+    }
+    int lead = data[start] & 0xFF;
+    int expected = lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : lead >= 0xC0 ? 2 : 1;
+    return length - start < expected ? start : length;
+  }
+
   protected IOException logIOException(
       String configKey, Level logLevel, IOException ioe, long elapsedTime) {
     log(
@@ -266,6 +439,261 @@ public abstract class Logger {
     }
   }
 
+  /**
+   * Writes the lines of another logger on a background thread, so requests don't wait for
+   * formatting nor appender I/O. Lines are captured with their unformatted arguments into a
+   * bounded, lock-free queue, which the background thread drains in batches. The {@link
+   * OverflowPolicy} decides what happens once it is full; only callers waiting for room take a
+   * lock.
+   *
+   * <p>The background thread is started by the first line logged, so unused loggers hold no thread,
+   * and parks while no line is queued. Only {@link #log(String, String, Object...)} and the header
+   * filters of the delegate are used, any of its other overrides are not. {@link #close() Closing}
+   * this logger writes the lines still queued, and later lines are written by the calling thread.
+   */
+  @Experimental
+  public static class AsyncLogger extends Logger implements Closeable {
+
+    /** What to do with a line when the queue of lines waiting to be written is full. */
+    public enum OverflowPolicy {
+      /** Discard the line, see {@link AsyncLogger#droppedLines()}. */
+      DROP,
+      /** Wait on the calling thread until the line can be queued. */
+      BLOCK
+    }
+
+    /** Maximum number of lines taken off the queue before writing them. */
+    private static final int BATCH_SIZE = 256;
+
+    private final Logger delegate;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Queue<Line> lines = new ConcurrentLinkedQueue<>();
+
+    /** Lines queued or being written, bounded by {@link #capacity}. */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /** Callers of the {@link OverflowPolicy#BLOCK} policy wait on it for room. */
+    private final Object room = new Object();
+
+    private final AtomicInteger blocked = new AtomicInteger();
+    private volatile Thread writer;
+    private volatile boolean parked;
+    private volatile boolean closed;
+
+    /**
+     * Queues up to 8192 lines, dropping lines when full.
+     *
+     * @param delegate writing the lines.
+     */
+    public AsyncLogger(Logger delegate) {
+      this(delegate, 8192, OverflowPolicy.DROP);
+    }
+
+    /**
+     * @param delegate writing the lines.
+     * @param capacity maximum number of lines waiting to be written.
+     * @param overflowPolicy applied to lines logged while {@code capacity} lines are waiting.
+     */
+    public AsyncLogger(Logger delegate, int capacity, OverflowPolicy overflowPolicy) {
+      Util.checkArgument(capacity > 0, "capacity must be positive");
+      this.delegate = Util.checkNotNull(delegate, "delegate");
+      this.capacity = capacity;
+      this.overflowPolicy = Util.checkNotNull(overflowPolicy, "overflowPolicy");
+    }
+
+    /**
+     * Number of lines discarded by the {@link OverflowPolicy#DROP} policy so far.
+     *
+     * @return count of dropped lines.
+     */
+    public long droppedLines() {
+      return dropped.get();
+    }
+
+    // visible for testing
+    Thread writer() {
+      return writer;
+    }
+
+    @Override
+    protected boolean shouldLogRequestHeader(String header) {
+      return delegate.shouldLogRequestHeader(header);
+    }
+
+    @Override
+    protected boolean shouldLogResponseHeader(String header) {
+      return delegate.shouldLogResponseHeader(header);
+    }
+
+    @Override
+    protected void log(String configKey, String format, Object... args) {
+      if (closed) {
+        delegate.log(configKey, format, args);
+        return;
+      }
+      if (!reserve()) {
+        if (overflowPolicy == OverflowPolicy.DROP) {
+          dropped.incrementAndGet();
+          return;
+        }
+        if (!awaitRoom()) {
+          // interrupted or closed meanwhile
+          delegate.log(configKey, format, args);
+          return;
+        }
+      }
+      lines.offer(new Line(configKey, format, args));
+      if (closed) {
+        // queued while closing, maybe after the background thread stopped
+        writeQueuedLines();
+        return;
+      }
+      final Thread current = writer;
+      if (current == null) {
+        if (started.compareAndSet(false, true)) {
+          startWriter();
+        }
+      } else if (parked) {
+        LockSupport.unpark(current);
+      }
+    }
+
+    /** Writes the lines still queued and stops the background thread. */
+    @Override
+    public void close() {
+      closed = true;
+      synchronized (room) {
+        room.notifyAll();
+      }
+      final Thread current = writer;
+      if (current != null) {
+        LockSupport.unpark(current);
+        try {
+          current.join();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      writeQueuedLines();
+    }
+
+    /** Takes one of the {@link #capacity} slots, unless all are taken. */
+    private boolean reserve() {
+      int current;
+      do {
+        current = pending.get();
+        if (current >= capacity) {
+          return false;
+        }
+      } while (!pending.compareAndSet(current, current + 1));
+      return true;
+    }
+
+    private boolean awaitRoom() {
+      blocked.incrementAndGet();
+      try {
+        synchronized (room) {
+          while (!reserve()) {
+            if (closed) {
+              return false;
+            }
+            room.wait();
+          }
+          return true;
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      } finally {
+        blocked.decrementAndGet();
+      }
+    }
+
+    private void release(int count) {
+      pending.addAndGet(-count);
+      if (blocked.get() > 0) {
+        synchronized (room) {
+          room.notifyAll();
+        }
+      }
+    }
+
+    private void startWriter() {
+      final Thread thread = new Thread(this::writeLines, "feign-async-logger");
+      thread.setDaemon(true);
+      writer = thread;
+      thread.start();
+    }
+
+    private void writeLines() {
+      final Line[] batch = new Line[BATCH_SIZE];
+      while (true) {
+        if (writeBatch(batch) > 0) {
+          continue;
+        }
+        if (closed) {
+          return;
+        }
+        parked = true;
+        // a line queued before parked was set would otherwise wait for the next one
+        if (lines.isEmpty() && !closed) {
+          LockSupport.park(this);
+        }
+        parked = false;
+      }
+    }
+
+    private void writeQueuedLines() {
+      final Line[] batch = new Line[BATCH_SIZE];
+      int written;
+      do {
+        written = writeBatch(batch);
+      } while (written > 0);
+    }
+
+    /** Takes up to a batch of lines off the queue, writes them, then frees their slots. */
+    private int writeBatch(Line[] batch) {
+      int count = 0;
+      Line line;
+      while (count < batch.length && (line = lines.poll()) != null) {
+        batch[count++] = line;
+      }
+      for (int i = 0; i < count; i++) {
+        write(batch[i]);
+        batch[i] = null;
+      }
+      if (count > 0) {
+        release(count);
+      }
+      return count;
+    }
+
+    private void write(Line line) {
+      try {
+        delegate.log(line.configKey, line.format, line.args);
+      } catch (RuntimeException e) {
+        // a failing appender must not stop the writer thread
+      }
+    }
+
+    private static final class Line {
+
+      private final String configKey;
+      private final String format;
+      private final Object[] args;
+
+      Line(String configKey, String format, Object[] args) {
+        this.configKey = configKey;
+        this.format = format;
+        this.args = args;
+      }
+    }
+  }
+
   public static class NoOpLogger extends Logger {
 
     @Override
@@ -17,6 +17,8 @@ package feign;
 
 import static feign.Util.checkNotNull;
 
+import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.List;
 
 public class MethodHandlerConfiguration {
@@ -39,6 +41,9 @@ public class MethodHandlerConfiguration {
 
   private final ExceptionPropagationPolicy propagationPolicy;
 
+  /** Indexes of the parameters which may receive {@link Request.Options}, null if unknown. */
+  private final int[] optionsParameterIndexes;
+
   public MethodMetadata getMetadata() {
     return metadata;
   }
@@ -95,5 +100,48 @@ public class MethodHandlerConfiguration {
     this.buildTemplateFromArgs = checkNotNull(buildTemplateFromArgs, "metadata for %s", target);
     this.options = checkNotNull(options, "options for %s", target);
     this.propagationPolicy = propagationPolicy;
+    this.optionsParameterIndexes = optionsParameterIndexes(metadata.method());
+  }
+
+  /**
+   * The first {@link Request.Options} passed as an argument of the method, only inspecting the
+   * parameters which can receive one.
+   *
+   * @return the Options argument, or {@literal null} if none was passed.
+   */
+  Request.Options findOptionsArgument(Object[] argv) {
+    if (argv == null || argv.length == 0) {
+      return null;
+    }
+    if (optionsParameterIndexes == null) {
+      for (Object arg : argv) {
+        if (arg instanceof Request.Options) {
+          return (Request.Options) arg;
+        }
+      }
+      return null;
+    }
+    for (int index : optionsParameterIndexes) {
+      if (argv[index] instanceof Request.Options) {
+        return (Request.Options) argv[index];
+      }
+    }
+    return null;
+  }
+
+  private static int[] optionsParameterIndexes(Method method) {
+    if (method == null) {
+      return null;
+    }
+    Class<?>[] parameterTypes = method.getParameterTypes();
+    int[] indexes = new int[parameterTypes.length];
+    int count = 0;
+    for (int i = 0; i < parameterTypes.length; i++) {
+      if (Request.Options.class.isAssignableFrom(parameterTypes[i])
+          || parameterTypes[i].isAssignableFrom(Request.Options.class)) {
+        indexes[count++] = i;
+      }
+    }
+    return Arrays.copyOf(indexes, count);
   }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2012 The Feign Authors (feign@commonhaus.dev)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package feign;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps the metadata parsed by a {@link Contract} for an api interface, so building more clients of
+ * the interface skips parsing it again.
+ *
+ * <p>Metadata is kept alongside the interface's {@link Class}, so it is dropped when the interface
+ * is unloaded. For each interface, it is keyed by the contract instance, held weakly, so a contract
+ * only benefits when reused by several builders. Contracts whose {@link
+ * DeclarativeContract#isStateless()} holds, such as {@link Contract.Default}, are keyed by their
+ * class instead, so all their instances share the metadata. The cache is bounded by the number of
+ * interfaces and of contract classes or live instances parsing them.
+ */
+final class MethodMetadataCache {
+
+  private static final ClassValue<Map<Object, List<MethodMetadata>>> CACHE =
+      new ClassValue<Map<Object, List<MethodMetadata>>>() {
+        @Override
+        protected Map<Object, List<MethodMetadata>> computeValue(Class<?> type) {
+          return Collections.synchronizedMap(new WeakHashMap<>());
+        }
+      };
+
+  private MethodMetadataCache() {}
+
+  /**
+   * Parses the metadata of the target type with the contract, or returns the metadata it parsed
+   * before. The returned list is shared, so neither it nor its metadata must be modified.
+   */
+  static List<MethodMetadata> parseAndValidateMetadata(Contract contract, Class<?> targetType) {
+    final Object key =
+        contract instanceof DeclarativeContract && ((DeclarativeContract) contract).isStateless()
+            ? contract.getClass()
+            : contract;
+    final Map<Object, List<MethodMetadata>> byContract = CACHE.get(targetType);
+    List<MethodMetadata> metadata = byContract.get(key);
+    if (metadata == null) {
+      metadata =
+          Collections.unmodifiableList(
+              new ArrayList<>(contract.parseAndValidateMetadata(targetType)));
+      byContract.put(key, metadata);
+    }
+    return metadata;
+  }
+}
@@ -57,6 +57,12 @@ public class ReflectiveFeign<C> extends Feign {
 
     Map<Method, MethodHandler> methodToHandler =
         targetToHandlersByName.apply(target, requestContext);
+    if (factory instanceof InvocationHandlerFactory.Default) {
+      T generated = GeneratedClient.newInstance(target, methodToHandler);
+      if (generated != null) {
+        return generated;
+      }
+    }
     InvocationHandler handler = factory.create(target, methodToHandler);
     T proxy =
         (T)
@@ -77,6 +83,13 @@ public class ReflectiveFeign<C> extends Feign {
     private final Target target;
     private final Map<Method, MethodHandler> dispatch;
 
+    /**
+     * Handlers keyed by the identity of the {@link Method} instances the proxy passes to {@link
+     * #invoke}, which are the same on every call. Filled on the first call of each method and
+     * replaced as a whole, so reads need no locking nor {@link Method#equals} checks.
+     */
+    private volatile Map<Method, MethodHandler> resolved = new IdentityHashMap<>();
+
     FeignInvocationHandler(Target target, Map<Method, MethodHandler> dispatch) {
       this.target = checkNotNull(target, "target");
       this.dispatch = checkNotNull(dispatch, "dispatch for %s", target);
@@ -84,24 +97,46 @@ public class ReflectiveFeign<C> extends Feign {
 
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      MethodHandler handler = resolved.get(method);
+      if (handler == null) {
+        handler = resolve(method);
+      }
+      return handler.invoke(args);
+    }
+
+    private synchronized MethodHandler resolve(Method method) {
+      MethodHandler handler = resolved.get(method);
+      if (handler != null) {
+        return handler;
+      }
       if ("equals".equals(method.getName())) {
-        try {
-          Object otherHandler =
-              args.length > 0 && args[0] != null ? Proxy.getInvocationHandler(args[0]) : null;
-          return equals(otherHandler);
-        } catch (IllegalArgumentException e) {
-          return false;
-        }
+        handler =
+            args -> {
+              try {
+                Object otherHandler =
+                    args.length > 0 && args[0] != null ? Proxy.getInvocationHandler(args[0]) : null;
+                return equals(otherHandler);
+              } catch (IllegalArgumentException e) {
+                return false;
+              }
+            };
       } else if ("hashCode".equals(method.getName())) {
-        return hashCode();
+        handler = args -> hashCode();
       } else if ("toString".equals(method.getName())) {
-        return toString();
-      } else if (!dispatch.containsKey(method)) {
-        throw new UnsupportedOperationException(
-            String.format("Method \"%s\" should not be called", method.getName()));
+        handler = args -> toString();
+      } else if (dispatch.containsKey(method)) {
+        handler = dispatch.get(method);
+      } else {
+        handler =
+            args -> {
+              throw new UnsupportedOperationException(
+                  String.format("Method \"%s\" should not be called", method.getName()));
+            };
       }
-
-      return dispatch.get(method).invoke(args);
+      Map<Method, MethodHandler> updated = new IdentityHashMap<>(resolved);
+      updated.put(method, handler);
+      resolved = updated;
+      return handler;
     }
 
     @Override
@@ -137,7 +172,8 @@ public class ReflectiveFeign<C> extends Feign {
     public Map<Method, MethodHandler> apply(Target target, C requestContext) {
       final Map<Method, MethodHandler> result = new LinkedHashMap<>();
 
-      final List<MethodMetadata> metadataList = contract.parseAndValidateMetadata(target.type());
+      final List<MethodMetadata> metadataList =
+          MethodMetadataCache.parseAndValidateMetadata(contract, target.type());
       for (MethodMetadata md : metadataList) {
         final Method method = md.method();
         if (method.getDeclaringClass() == Object.class) {
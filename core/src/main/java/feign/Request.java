@@ -19,7 +19,11 @@ import static feign.Util.checkNotNull;
 import static feign.Util.getThreadIdentifier;
 import static feign.Util.valuesOrEmpty;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
 import java.nio.charset.Charset;
 import java.time.Duration;
@@ -260,16 +264,44 @@ public final class Request implements Serializable {
    * If present, this is the replayable body to send to the server. In some cases, this may be
    * interpretable as text.
    *
+   * <p>{@link #isStreaming() Streaming} bodies are buffered in memory by this method, clients
+   * supporting them should use {@link #writeBody(OutputStream)} instead.
+   *
    * @see #charset()
    */
   public byte[] body() {
-    return body.data;
+    return body.asBytes();
   }
 
   public boolean isBinary() {
     return body.isBinary();
   }
 
+  /**
+   * If the body of this request is written by a {@link Body.Writer} and has not been buffered in
+   * memory.
+   *
+   * @return true if the body is streamed to the server.
+   */
+  @Experimental
+  public boolean isStreaming() {
+    return body != null && body.isStreaming();
+  }
+
+  /**
+   * Writes the body of this request to the output provided, without buffering {@link #isStreaming()
+   * streaming} bodies in memory.
+   *
+   * @param output to write the body to, not closed by this method.
+   * @throws IOException if the body could not be written.
+   */
+  @Experimental
+  public void writeBody(OutputStream output) throws IOException {
+    if (body != null) {
+      body.writeTo(output);
+    }
+  }
+
   /**
    * Request Length.
    *
@@ -279,6 +311,17 @@ public final class Request implements Serializable {
     return this.body.length();
   }
 
+  /**
+   * Request Length, as a long.
+   *
+   * @return size of the request body, or {@literal -1} if the length of a streaming body is not
+   *     known.
+   */
+  @Experimental
+  public long contentLength() {
+    return body != null ? body.contentLength() : 0;
+  }
+
   /**
    * Request HTTP protocol version
    *
@@ -326,6 +369,7 @@ public final class Request implements Serializable {
     private final TimeUnit readTimeoutUnit;
     private final boolean followRedirects;
     private final Map<String, Map<String, Options>> threadToMethodOptions;
+    private final Map<String, Options> methodOptions;
 
     /**
      * Get an Options by methodName
@@ -335,13 +379,22 @@ public final class Request implements Serializable {
      */
     @Experimental
     public Options getMethodOptions(String methodName) {
-      Map<String, Options> methodOptions =
-          threadToMethodOptions.getOrDefault(getThreadIdentifier(), new HashMap<>());
+      if (!threadToMethodOptions.isEmpty()) {
+        Map<String, Options> threadMethodOptions = threadToMethodOptions.get(getThreadIdentifier());
+        if (threadMethodOptions != null) {
+          Options options = threadMethodOptions.get(methodName);
+          if (options != null) {
+            return options;
+          }
+        }
+      }
       return methodOptions.getOrDefault(methodName, this);
     }
 
     /**
-     * Set methodOptions by methodKey and options
+     * Set methodOptions by methodKey and options, for the current thread only. Options are kept for
+     * every thread calling this method, prefer {@link #withMethodOptions(String, Options)} when the
+     * options of a method do not depend on the calling thread.
      *
      * @param methodName it's your FeignInterface method name.
      * @param options it's the Options for this method.
@@ -355,6 +408,28 @@ public final class Request implements Serializable {
       methodOptions.put(methodName, options);
     }
 
+    /**
+     * Creates a copy of these Options using different Options for a method, on every thread.
+     * Options {@link #setMethodOptions(String, Options) set} for the current thread take
+     * precedence.
+     *
+     * @param methodName it's your FeignInterface method name.
+     * @param options it's the Options for this method.
+     * @return a new Options instance.
+     */
+    @Experimental
+    public Options withMethodOptions(String methodName, Options options) {
+      Map<String, Options> methodOptions = new HashMap<>(this.methodOptions);
+      methodOptions.put(checkNotNull(methodName, "methodName"), checkNotNull(options, "options"));
+      return new Options(
+          connectTimeout,
+          connectTimeoutUnit,
+          readTimeout,
+          readTimeoutUnit,
+          followRedirects,
+          Collections.unmodifiableMap(methodOptions));
+    }
+
     /**
      * Creates a new Options instance.
      *
@@ -388,6 +463,22 @@ public final class Request implements Serializable {
         long readTimeout,
         TimeUnit readTimeoutUnit,
         boolean followRedirects) {
+      this(
+          connectTimeout,
+          connectTimeoutUnit,
+          readTimeout,
+          readTimeoutUnit,
+          followRedirects,
+          Collections.emptyMap());
+    }
+
+    private Options(
+        long connectTimeout,
+        TimeUnit connectTimeoutUnit,
+        long readTimeout,
+        TimeUnit readTimeoutUnit,
+        boolean followRedirects,
+        Map<String, Options> methodOptions) {
       super();
       this.connectTimeout = connectTimeout;
       this.connectTimeoutUnit = connectTimeoutUnit;
@@ -395,6 +486,7 @@ public final class Request implements Serializable {
       this.readTimeoutUnit = readTimeoutUnit;
       this.followRedirects = followRedirects;
       this.threadToMethodOptions = new ConcurrentHashMap<>();
+      this.methodOptions = methodOptions;
     }
 
     /**
@@ -515,9 +607,30 @@ public final class Request implements Serializable {
   @Experimental
   public static class Body implements Serializable {
 
+    /**
+     * Writes the content of a streaming body, directly to the connection of clients supporting it.
+     * The writer is invoked again each time the request is retried, so it must be able to write the
+     * same content more than once.
+     */
+    @FunctionalInterface
+    public interface Writer {
+
+      /**
+       * Writes the body content.
+       *
+       * @param output to write to, must not be closed by the writer.
+       * @throws IOException if the content could not be written.
+       */
+      void writeTo(OutputStream output) throws IOException;
+    }
+
     private transient Charset encoding;
 
-    private byte[] data;
+    private volatile byte[] data;
+
+    private transient Writer writer;
+
+    private long contentLength = -1;
 
     private Body() {
       super();
@@ -532,17 +645,85 @@ public final class Request implements Serializable {
       this.encoding = encoding;
     }
 
+    private Body(Writer writer, long contentLength, Charset encoding) {
+      this.writer = writer;
+      this.contentLength = contentLength;
+      this.encoding = encoding;
+    }
+
     public Optional<Charset> getEncoding() {
       return Optional.ofNullable(this.encoding);
     }
 
     public int length() {
       /* calculate the content length based on the data provided */
-      return data != null ? data.length : 0;
+      if (data != null) {
+        return data.length;
+      }
+      return contentLength > 0 ? (int) Math.min(contentLength, Integer.MAX_VALUE) : 0;
     }
 
+    /**
+     * Length of the body content.
+     *
+     * @return the length, or {@literal -1} if the length of a streaming body is not known.
+     */
+    public long contentLength() {
+      if (data != null) {
+        return data.length;
+      }
+      return writer != null ? contentLength : 0;
+    }
+
+    /**
+     * If the content is written by a {@link Writer} and has not been buffered in memory.
+     *
+     * @return true if this is a streaming body.
+     */
+    public boolean isStreaming() {
+      return data == null && writer != null;
+    }
+
+    /**
+     * Writes the content to the output provided, streaming bodies are not buffered in memory.
+     *
+     * @param output to write the content to, not closed by this method.
+     * @throws IOException if the content could not be written.
+     */
+    public void writeTo(OutputStream output) throws IOException {
+      if (data != null) {
+        output.write(data);
+      } else if (writer != null) {
+        writer.writeTo(output);
+      }
+    }
+
+    /**
+     * The content of this body. Streaming bodies are buffered in memory on the first call, prefer
+     * {@link #writeTo(OutputStream)} when possible.
+     *
+     * @return the content, may be {@literal null}.
+     */
     public byte[] asBytes() {
-      return data;
+      byte[] content = data;
+      if (content == null && writer != null) {
+        // buffered once, even when several threads ask for the content
+        synchronized (this) {
+          content = data;
+          if (content == null) {
+            ByteArrayOutputStream buffer =
+                new ByteArrayOutputStream(contentLength > 0 ? (int) contentLength : 32);
+            try {
+              writer.writeTo(buffer);
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+            content = buffer.toByteArray();
+            data = content;
+          }
+        }
+      }
+      return content;
     }
 
     public String asString() {
@@ -553,6 +734,18 @@ public final class Request implements Serializable {
       return encoding == null || data == null;
     }
 
+    /**
+     * Creates a new streaming Request Body, written by the {@link Writer} provided.
+     *
+     * @param writer of the content.
+     * @param contentLength of the content, or {@literal -1} if unknown.
+     * @param charset of the content, if {@literal null}, then the content is considered binary.
+     * @return a new Request.Body instance.
+     */
+    public static Body create(Writer writer, long contentLength, Charset charset) {
+      return new Body(checkNotNull(writer, "writer"), contentLength, charset);
+    }
+
     public static Body create(String data) {
       return new Body(data.getBytes());
     }
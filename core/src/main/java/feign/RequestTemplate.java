@@ -135,11 +135,11 @@ public final class RequestTemplate implements Serializable {
             requestTemplate.methodMetadata,
             requestTemplate.feignTarget);
 
-    if (!requestTemplate.queries().isEmpty()) {
+    if (!requestTemplate.queries.isEmpty()) {
       template.queries.putAll(requestTemplate.queries);
     }
 
-    if (!requestTemplate.headers().isEmpty()) {
+    if (!requestTemplate.headers.isEmpty()) {
       template.headers.putAll(requestTemplate.headers);
     }
     return template;
@@ -183,8 +183,23 @@ public final class RequestTemplate implements Serializable {
 
     StringBuilder uri = new StringBuilder();
 
-    /* create a new template form this one, but explicitly */
-    RequestTemplate resolved = RequestTemplate.from(this);
+    /*
+     * create a new template from this one, without copying the queries and headers, only their
+     * resolved values are kept on the new template.
+     */
+    RequestTemplate resolved =
+        new RequestTemplate(
+            this.target,
+            this.fragment,
+            this.uriTemplate,
+            this.bodyTemplate,
+            this.method,
+            this.charset,
+            this.body,
+            this.decodeSlash,
+            this.collectionFormat,
+            this.methodMetadata,
+            this.feignTarget);
 
     if (this.uriTemplate == null) {
       /* create a new uri template using the default root */
@@ -201,10 +216,6 @@ public final class RequestTemplate implements Serializable {
      * resolved template.
      */
     if (!this.queries.isEmpty()) {
-      /*
-       * since we only want to keep resolved query values, reset any queries on the resolved copy
-       */
-      resolved.queries(Collections.emptyMap());
       StringBuilder query = new StringBuilder();
       Iterator<QueryTemplate> queryTemplates = this.queries.values().iterator();
 
@@ -237,11 +248,6 @@ public final class RequestTemplate implements Serializable {
 
     /* headers */
     if (!this.headers.isEmpty()) {
-      /*
-       * same as the query string, we only want to keep resolved values, so clear the header map on
-       * the resolved instance
-       */
-      resolved.headers(Collections.emptyMap());
       for (HeaderTemplate headerTemplate : this.headers.values()) {
         /* resolve the header */
         String header = headerTemplate.expand(variables);
@@ -884,6 +890,22 @@ public final class RequestTemplate implements Serializable {
     return this;
   }
 
+  /**
+   * Set a streaming Body for this request. The content is written directly to the connection by
+   * clients supporting {@link Request#writeBody(java.io.OutputStream) streaming}, instead of being
+   * buffered in memory first.
+   *
+   * @param writer of the content, invoked again each time the request is sent.
+   * @param contentLength of the content, or {@literal -1} if unknown.
+   * @param charset of the content, {@literal null} for binary data.
+   * @return a RequestTemplate for chaining.
+   */
+  @Experimental
+  public RequestTemplate body(Request.Body.Writer writer, long contentLength, Charset charset) {
+    this.body(Request.Body.create(writer, contentLength, charset));
+    return this;
+  }
+
   /**
    * Set the Body for this request.
    *
@@ -899,8 +921,8 @@ public final class RequestTemplate implements Serializable {
     this.bodyTemplate = null;
 
     header(CONTENT_LENGTH, Collections.emptyList());
-    if (body.length() > 0) {
-      header(CONTENT_LENGTH, String.valueOf(body.length()));
+    if (body.contentLength() > 0) {
+      header(CONTENT_LENGTH, String.valueOf(body.contentLength()));
     }
 
     return this;
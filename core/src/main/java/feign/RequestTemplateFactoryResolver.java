@@ -21,30 +21,48 @@ import static feign.Util.checkNotNull;
 import feign.codec.EncodeException;
 import feign.codec.Encoder;
 import feign.template.UriUtils;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 final class RequestTemplateFactoryResolver {
   private final Encoder encoder;
   private final QueryMapEncoder queryMapEncoder;
+  private final boolean precompile;
 
   RequestTemplateFactoryResolver(Encoder encoder, QueryMapEncoder queryMapEncoder) {
+    this(encoder, queryMapEncoder, false);
+  }
+
+  RequestTemplateFactoryResolver(
+      Encoder encoder, QueryMapEncoder queryMapEncoder, boolean precompile) {
     this.encoder = checkNotNull(encoder, "encoder");
     this.queryMapEncoder = checkNotNull(queryMapEncoder, "queryMapEncoder");
+    this.precompile = precompile;
   }
 
   public RequestTemplate.Factory resolve(Target<?> target, MethodMetadata md) {
+    final BuildTemplateByResolvingArgs factory;
     if (!md.formParams().isEmpty() && md.template().bodyTemplate() == null) {
-      return new BuildFormEncodedTemplateFromArgs(md, encoder, queryMapEncoder, target);
+      factory = new BuildFormEncodedTemplateFromArgs(md, encoder, queryMapEncoder, target);
     } else if (md.bodyIndex() != null || md.alwaysEncodeBody()) {
-      return new BuildEncodedTemplateFromArgs(md, encoder, queryMapEncoder, target);
+      factory = new BuildEncodedTemplateFromArgs(md, encoder, queryMapEncoder, target);
     } else {
-      return new BuildTemplateByResolvingArgs(md, queryMapEncoder, target);
+      factory = new BuildTemplateByResolvingArgs(md, queryMapEncoder, target);
+    }
+    if (precompile) {
+      factory.precompile();
     }
+    return factory;
   }
 
   static class BuildTemplateByResolvingArgs implements RequestTemplate.Factory {
@@ -55,6 +73,7 @@ final class RequestTemplateFactoryResolver {
     protected final Target<?> target;
     private final Map<Integer, Param.Expander> indexToExpander =
         new LinkedHashMap<Integer, Param.Expander>();
+    private ArgumentPlan plan;
 
     BuildTemplateByResolvingArgs(
         MethodMetadata metadata, QueryMapEncoder queryMapEncoder, Target target) {
@@ -81,30 +100,41 @@ final class RequestTemplateFactoryResolver {
       }
     }
 
+    /**
+     * Compiles the argument to variable bindings of this method into an {@link ArgumentPlan}, so
+     * that each invocation reads the arguments by index instead of building a new variable map.
+     */
+    void precompile() {
+      this.plan = new ArgumentPlan(metadata.indexToName(), indexToExpander);
+    }
+
+    /**
+     * If the template can be resolved directly from the {@link MethodMetadata#template()}, as the
+     * resolution creates a new template anyway. Factories that encode the body into the template
+     * before it is resolved require their own copy.
+     */
+    protected boolean resolvesInPlace() {
+      return true;
+    }
+
     @Override
     public RequestTemplate create(Object[] argv) {
-      RequestTemplate mutable = RequestTemplate.from(metadata.template());
-      mutable.feignTarget(target);
-      if (metadata.urlIndex() != null) {
-        int urlIndex = metadata.urlIndex();
-        checkArgument(argv[urlIndex] != null, "URI parameter %s was null", urlIndex);
-        mutable.target(String.valueOf(argv[urlIndex]));
-      }
-      Map<String, Object> varBuilder = new LinkedHashMap<String, Object>();
-      for (Map.Entry<Integer, Collection<String>> entry : metadata.indexToName().entrySet()) {
-        int i = entry.getKey();
-        Object value = argv[entry.getKey()];
-        if (value != null) { // Null values are skipped.
-          if (indexToExpander.containsKey(i)) {
-            value = expandElements(indexToExpander.get(i), value);
-          }
-          for (String name : entry.getValue()) {
-            varBuilder.put(name, value);
-          }
+      RequestTemplate template;
+      if (plan != null && metadata.urlIndex() == null && resolvesInPlace()) {
+        template = resolve(argv, metadata.template(), plan.bind(argv));
+        template.feignTarget(target);
+      } else {
+        RequestTemplate mutable = RequestTemplate.from(metadata.template());
+        mutable.feignTarget(target);
+        if (metadata.urlIndex() != null) {
+          int urlIndex = metadata.urlIndex();
+          checkArgument(argv[urlIndex] != null, "URI parameter %s was null", urlIndex);
+          mutable.target(String.valueOf(argv[urlIndex]));
         }
+        Map<String, Object> varBuilder = plan != null ? plan.bind(argv) : variables(argv);
+        template = resolve(argv, mutable, varBuilder);
       }
 
-      RequestTemplate template = resolve(argv, mutable, varBuilder);
       if (metadata.queryMapIndex() != null) {
         // add query map parameters after initial resolve so that they take
         // precedence over any predefined values
@@ -123,6 +153,23 @@ final class RequestTemplateFactoryResolver {
       return template;
     }
 
+    private Map<String, Object> variables(Object[] argv) {
+      Map<String, Object> varBuilder = new LinkedHashMap<String, Object>();
+      for (Map.Entry<Integer, Collection<String>> entry : metadata.indexToName().entrySet()) {
+        int i = entry.getKey();
+        Object value = argv[entry.getKey()];
+        if (value != null) { // Null values are skipped.
+          if (indexToExpander.containsKey(i)) {
+            value = expandElements(indexToExpander.get(i), value);
+          }
+          for (String name : entry.getValue()) {
+            varBuilder.put(name, value);
+          }
+        }
+      }
+      return varBuilder;
+    }
+
     private Map<String, Object> toQueryMap(Object value, QueryMapEncoder queryMapEncoder) {
       if (value instanceof Map) {
         return (Map<String, Object>) value;
@@ -137,14 +184,14 @@ final class RequestTemplateFactoryResolver {
       }
     }
 
-    private Object expandElements(Param.Expander expander, Object value) {
+    private static Object expandElements(Param.Expander expander, Object value) {
       if (value instanceof Iterable) {
         return expandIterable(expander, (Iterable) value);
       }
       return expander.expand(value);
     }
 
-    private List<String> expandIterable(Param.Expander expander, Iterable value) {
+    private static List<String> expandIterable(Param.Expander expander, Iterable value) {
       List<String> values = new ArrayList<String>();
       for (Object element : value) {
         if (element != null) {
@@ -222,6 +269,11 @@ final class RequestTemplateFactoryResolver {
       this.encoder = encoder;
     }
 
+    @Override
+    protected boolean resolvesInPlace() {
+      return false;
+    }
+
     @Override
     protected RequestTemplate resolve(
         Object[] argv, RequestTemplate mutable, Map<String, Object> variables) {
@@ -252,6 +304,11 @@ final class RequestTemplateFactoryResolver {
       this.encoder = encoder;
     }
 
+    @Override
+    protected boolean resolvesInPlace() {
+      return false;
+    }
+
     @Override
     protected RequestTemplate resolve(
         Object[] argv, RequestTemplate mutable, Map<String, Object> variables) {
@@ -281,4 +338,140 @@ final class RequestTemplateFactoryResolver {
       return super.resolve(argv, mutable, variables);
     }
   }
+
+  /**
+   * Index addressed plan of the method arguments bound to template variables. Built once per
+   * method, each invocation only expands the arguments into a flat array, exposed to the templates
+   * as a read only {@link Map} view with the same semantics as the map built by {@link
+   * BuildTemplateByResolvingArgs}: {@literal null} arguments are skipped and, when a variable is
+   * bound to more than one argument, the last non-null argument wins.
+   */
+  static final class ArgumentPlan {
+
+    private final int[] argumentIndexes;
+    private final Param.Expander[] expanders;
+    private final String[] names;
+    private final int[][] nameToSlots;
+    private final Map<String, Integer> nameIndex;
+
+    ArgumentPlan(
+        Map<Integer, Collection<String>> indexToName,
+        Map<Integer, Param.Expander> indexToExpander) {
+      this.argumentIndexes = new int[indexToName.size()];
+      this.expanders = new Param.Expander[indexToName.size()];
+      Map<String, List<Integer>> slotsByName = new LinkedHashMap<>();
+      int slot = 0;
+      for (Map.Entry<Integer, Collection<String>> entry : indexToName.entrySet()) {
+        argumentIndexes[slot] = entry.getKey();
+        expanders[slot] = indexToExpander.get(entry.getKey());
+        for (String name : entry.getValue()) {
+          slotsByName.computeIfAbsent(name, key -> new ArrayList<>()).add(slot);
+        }
+        slot++;
+      }
+      this.names = slotsByName.keySet().toArray(new String[0]);
+      this.nameToSlots = new int[names.length][];
+      Map<String, Integer> nameIndex = new HashMap<>();
+      for (int i = 0; i < names.length; i++) {
+        nameToSlots[i] = slotsByName.get(names[i]).stream().mapToInt(Integer::intValue).toArray();
+        nameIndex.put(names[i], i);
+      }
+      this.nameIndex = Collections.unmodifiableMap(nameIndex);
+    }
+
+    /**
+     * Binds the arguments of a single invocation to the template variables.
+     *
+     * @param argv of the invocation.
+     * @return a read only view of the variables.
+     */
+    Map<String, Object> bind(Object[] argv) {
+      Object[] values = new Object[argumentIndexes.length];
+      for (int slot = 0; slot < argumentIndexes.length; slot++) {
+        Object value = argv[argumentIndexes[slot]];
+        if (value != null && expanders[slot] != null) {
+          value = BuildTemplateByResolvingArgs.expandElements(expanders[slot], value);
+        }
+        values[slot] = value;
+      }
+      return new BoundVariables(values);
+    }
+
+    private Object valueOf(int name, Object[] values) {
+      int[] slots = nameToSlots[name];
+      for (int i = slots.length - 1; i >= 0; i--) {
+        Object value = values[slots[i]];
+        if (value != null) {
+          return value;
+        }
+      }
+      return null;
+    }
+
+    private final class BoundVariables extends AbstractMap<String, Object> {
+
+      private final Object[] values;
+
+      BoundVariables(Object[] values) {
+        this.values = values;
+      }
+
+      @Override
+      public Object get(Object key) {
+        Integer name = nameIndex.get(key);
+        return name != null ? valueOf(name, values) : null;
+      }
+
+      @Override
+      public boolean containsKey(Object key) {
+        return get(key) != null;
+      }
+
+      @Override
+      public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+          @Override
+          public Iterator<Entry<String, Object>> iterator() {
+            return new Iterator<Entry<String, Object>>() {
+              private int next = advance(0);
+
+              private int advance(int from) {
+                while (from < names.length && valueOf(from, values) == null) {
+                  from++;
+                }
+                return from;
+              }
+
+              @Override
+              public boolean hasNext() {
+                return next < names.length;
+              }
+
+              @Override
+              public Entry<String, Object> next() {
+                if (!hasNext()) {
+                  throw new NoSuchElementException();
+                }
+                Entry<String, Object> entry =
+                    new SimpleImmutableEntry<>(names[next], valueOf(next, values));
+                next = advance(next + 1);
+                return entry;
+              }
+            };
+          }
+
+          @Override
+          public int size() {
+            int size = 0;
+            for (int name = 0; name < names.length; name++) {
+              if (valueOf(name, values) != null) {
+                size++;
+              }
+            }
+            return size;
+          }
+        };
+      }
+    }
+  }
 }
@@ -28,6 +28,21 @@ public interface Retryer extends Cloneable {
    */
   void continueOrPropagate(RetryableException e);
 
+  /**
+   * Non-blocking variant of {@link #continueOrPropagate(RetryableException)}, used by {@link
+   * AsyncFeign}. If retry is permitted, return the number of milliseconds to wait before the next
+   * attempt, instead of sleeping. Otherwise, propagate the exception.
+   *
+   * <p>The default implementation delegates to {@link #continueOrPropagate(RetryableException)},
+   * which may block the calling thread, and asks for an immediate retry.
+   *
+   * @return time in milliseconds from now until the next attempt.
+   */
+  default long delayOrPropagate(RetryableException e) {
+    continueOrPropagate(e);
+    return 0;
+  }
+
   Retryer clone();
 
   class Default implements Retryer {
@@ -55,29 +70,38 @@ public interface Retryer extends Cloneable {
     }
 
     public void continueOrPropagate(RetryableException e) {
+      long interval = delayOrPropagate(e);
+      if (interval <= 0) {
+        return;
+      }
+      try {
+        Thread.sleep(interval);
+      } catch (InterruptedException ignored) {
+        Thread.currentThread().interrupt();
+        throw e;
+      }
+      sleptForMillis += interval;
+    }
+
+    /**
+     * {@link AsyncFeign} calls {@link #continueOrPropagate(RetryableException)} instead for
+     * subclasses overriding only that method, so their backoff blocks the thread completing the
+     * previous attempt. Override this method too to schedule it.
+     */
+    @Override
+    public long delayOrPropagate(RetryableException e) {
       if (attempt++ >= maxAttempts) {
         throw e;
       }
 
-      long interval;
       if (e.retryAfter() != null) {
-        interval = e.retryAfter() - currentTimeMillis();
+        long interval = e.retryAfter() - currentTimeMillis();
         if (interval > maxPeriod) {
           interval = maxPeriod;
         }
-        if (interval < 0) {
-          return;
-        }
-      } else {
-        interval = nextMaxInterval();
-      }
-      try {
-        Thread.sleep(interval);
-      } catch (InterruptedException ignored) {
-        Thread.currentThread().interrupt();
-        throw e;
+        return Math.max(interval, 0);
       }
-      sleptForMillis += interval;
+      return nextMaxInterval();
     }
 
     /**
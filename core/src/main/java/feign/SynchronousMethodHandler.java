@@ -24,23 +24,25 @@ import feign.Request.Options;
 import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Stream;
 
 final class SynchronousMethodHandler implements MethodHandler {
 
   private final Client client;
   private final ResponseHandler responseHandler;
   private final MethodHandlerConfiguration methodHandlerConfiguration;
+  private final boolean stacklessExceptions;
 
   private SynchronousMethodHandler(
       MethodHandlerConfiguration methodHandlerConfiguration,
       Client client,
-      ResponseHandler responseHandler) {
+      ResponseHandler responseHandler,
+      boolean stacklessExceptions) {
 
     this.methodHandlerConfiguration =
         checkNotNull(methodHandlerConfiguration, "methodHandlerConfiguration");
     this.client = checkNotNull(client, "client for %s", methodHandlerConfiguration.getTarget());
     this.responseHandler = responseHandler;
+    this.stacklessExceptions = stacklessExceptions;
   }
 
   @Override
@@ -102,7 +104,7 @@ final class SynchronousMethodHandler implements MethodHandler {
                 e,
                 elapsedTime(start));
       }
-      throw errorExecuting(request, e);
+      throw errorExecuting(request, e, stacklessExceptions);
     }
 
     long elapsedTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
@@ -123,19 +125,13 @@ final class SynchronousMethodHandler implements MethodHandler {
   }
 
   Options findOptions(Object[] argv) {
-    if (argv == null || argv.length == 0) {
-      return this.methodHandlerConfiguration
-          .getOptions()
-          .getMethodOptions(methodHandlerConfiguration.getMetadata().method().getName());
+    Options options = methodHandlerConfiguration.findOptionsArgument(argv);
+    if (options != null) {
+      return options;
     }
-    return Stream.of(argv)
-        .filter(Options.class::isInstance)
-        .map(Options.class::cast)
-        .findFirst()
-        .orElse(
-            this.methodHandlerConfiguration
-                .getOptions()
-                .getMethodOptions(methodHandlerConfiguration.getMetadata().method().getName()));
+    return this.methodHandlerConfiguration
+        .getOptions()
+        .getMethodOptions(methodHandlerConfiguration.getMetadata().method().getName());
   }
 
   static class Factory implements MethodHandler.Factory<Object> {
@@ -149,6 +145,7 @@ final class SynchronousMethodHandler implements MethodHandler {
     private final ExceptionPropagationPolicy propagationPolicy;
     private final RequestTemplateFactoryResolver requestTemplateFactoryResolver;
     private final Options options;
+    private final boolean stacklessExceptions;
 
     Factory(
         Client client,
@@ -159,7 +156,8 @@ final class SynchronousMethodHandler implements MethodHandler {
         Logger.Level logLevel,
         ExceptionPropagationPolicy propagationPolicy,
         RequestTemplateFactoryResolver requestTemplateFactoryResolver,
-        Options options) {
+        Options options,
+        boolean stacklessExceptions) {
       this.client = checkNotNull(client, "client");
       this.retryer = checkNotNull(retryer, "retryer");
       this.requestInterceptors = checkNotNull(requestInterceptors, "requestInterceptors");
@@ -170,6 +168,7 @@ final class SynchronousMethodHandler implements MethodHandler {
       this.requestTemplateFactoryResolver =
           checkNotNull(requestTemplateFactoryResolver, "requestTemplateFactoryResolver");
       this.options = checkNotNull(options, "options");
+      this.stacklessExceptions = stacklessExceptions;
     }
 
     @Override
@@ -187,7 +186,8 @@ final class SynchronousMethodHandler implements MethodHandler {
               buildTemplateFromArgs,
               options,
               propagationPolicy);
-      return new SynchronousMethodHandler(methodHandlerConfiguration, client, responseHandler);
+      return new SynchronousMethodHandler(
+          methodHandlerConfiguration, client, responseHandler, stacklessExceptions);
     }
   }
 }
@@ -21,6 +21,7 @@ import static feign.Util.checkNotNull;
 import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
+import feign.Experimental;
 import feign.FeignException;
 import feign.Response;
 import feign.RetryableException;
@@ -86,6 +87,7 @@ public interface ErrorDecoder {
     private final RetryAfterDecoder retryAfterDecoder = new RetryAfterDecoder();
     private Integer maxBodyBytesLength;
     private Integer maxBodyCharsLength;
+    private boolean boundBodyCapture;
 
     public Default() {
       this.maxBodyBytesLength = null;
@@ -97,10 +99,29 @@ public interface ErrorDecoder {
       this.maxBodyCharsLength = maxBodyCharsLength;
     }
 
+    /**
+     * Creates a decoder which, when {@code boundBodyCapture} is set, reads no more than {@code
+     * maxBodyBytesLength} bytes of error bodies, so large error pages are not buffered in memory.
+     * The exceptions' {@link FeignException#responseBody() body} is then this prefix only.
+     *
+     * @param maxBodyBytesLength bytes of the body shown in messages and, when bounded, read.
+     *     Defaults to 400 when null.
+     * @param maxBodyCharsLength length of the preview of longer bodies. Defaults to 200 when null.
+     * @param boundBodyCapture if bodies are only read up to {@code maxBodyBytesLength}.
+     */
+    @Experimental
+    public Default(
+        Integer maxBodyBytesLength, Integer maxBodyCharsLength, boolean boundBodyCapture) {
+      this.maxBodyBytesLength = maxBodyBytesLength;
+      this.maxBodyCharsLength = maxBodyCharsLength;
+      this.boundBodyCapture = boundBodyCapture;
+    }
+
     @Override
     public Exception decode(String methodKey, Response response) {
       FeignException exception =
-          errorStatus(methodKey, response, maxBodyBytesLength, maxBodyCharsLength);
+          errorStatus(
+              methodKey, response, maxBodyBytesLength, maxBodyCharsLength, boundBodyCapture);
       Long retryAfter = retryAfterDecoder.apply(firstOrNull(response.headers(), RETRY_AFTER));
       if (retryAfter != null) {
         return new RetryableException(
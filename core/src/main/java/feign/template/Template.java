@@ -137,7 +137,7 @@ public class Template {
       if (expanded != null) {
         if (!this.encodeSlash) {
           logger.fine("Explicit slash decoding specified, decoding all slashes in uri");
-          expanded = expanded.replaceAll("%2F", "/");
+          expanded = decodeSlashes(expanded);
         }
         resolved = expanded;
       }
@@ -150,6 +150,27 @@ public class Template {
     return resolved;
   }
 
+  /**
+   * Replaces the encoded slashes, {@code %2F}, with a slash.
+   *
+   * @param value to decode.
+   * @return the value with decoded slashes.
+   */
+  private static String decodeSlashes(String value) {
+    int index = value.indexOf("%2F");
+    if (index < 0) {
+      return value;
+    }
+    StringBuilder decoded = new StringBuilder(value.length());
+    int start = 0;
+    do {
+      decoded.append(value, start, index).append('/');
+      start = index + 3;
+      index = value.indexOf("%2F", start);
+    } while (index >= 0);
+    return decoded.append(value, start, value.length()).toString();
+  }
+
   /**
    * Uri Encode the value.
    *
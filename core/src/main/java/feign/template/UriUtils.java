@@ -16,17 +16,30 @@
 package feign.template;
 
 import feign.Util;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.charset.Charset;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.nio.charset.StandardCharsets;
 
 public class UriUtils {
 
-  private static final Pattern PCT_ENCODED_PATTERN = Pattern.compile("%[0-9A-Fa-f][0-9A-Fa-f]");
+  private static final byte UNRESERVED = 1;
+  private static final byte RESERVED = 2;
+
+  /** The {@link #UNRESERVED} and {@link #RESERVED} classes of each US-ASCII character. */
+  private static final byte[] CHARACTER_CLASSES = new byte[128];
+
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  static {
+    for (int c = 0; c < CHARACTER_CLASSES.length; c++) {
+      if (isUnreserved(c)) {
+        CHARACTER_CLASSES[c] = UNRESERVED;
+      } else if (isReserved(c)) {
+        CHARACTER_CLASSES[c] = RESERVED;
+      }
+    }
+  }
 
   /**
    * Determines if the value is already pct-encoded.
@@ -35,13 +48,25 @@ public class UriUtils {
    * @return {@literal true} if the value is already pct-encoded
    */
   public static boolean isEncoded(String value, Charset charset) {
-    for (byte b : value.getBytes(charset)) {
-      if (!isUnreserved((char) b) && b != '%') {
-        /* break if there are any unreserved character */
+    if (!isAsciiCompatible(charset)) {
+      for (byte b : value.getBytes(charset)) {
+        if (!isAllowed(b, UNRESERVED) && b != '%') {
+          /* break if there are any unreserved character */
+          return false;
+        }
+      }
+      return containsPctEncoded(value);
+    }
+    boolean pctEncoded = false;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '%') {
+        pctEncoded = pctEncoded || isPctEncoded(value, i);
+      } else if (!isAllowed(c, UNRESERVED)) {
         return false;
       }
     }
-    return PCT_ENCODED_PATTERN.matcher(value).find();
+    return pctEncoded;
   }
 
   /**
@@ -110,34 +135,12 @@ public class UriUtils {
    */
   public static String encodeInternal(
       String value, Charset charset, boolean allowReservedCharacters) {
-    /* value is encoded, we need to split it up and skip the parts that are already encoded */
-    Matcher matcher = PCT_ENCODED_PATTERN.matcher(value);
-
-    if (!matcher.find()) {
-      return encodeChunk(value, charset, true);
+    if (!containsPctEncoded(value)) {
+      return pctEncode(value, charset, (byte) (UNRESERVED | RESERVED), false);
     }
-
-    int length = value.length();
-    StringBuilder encoded = new StringBuilder(length + 8);
-    int index = 0;
-    do {
-      /* split out the value before the encoded value */
-      String before = value.substring(index, matcher.start());
-
-      /* encode it */
-      encoded.append(encodeChunk(before, charset, allowReservedCharacters));
-
-      /* append the encoded value */
-      encoded.append(matcher.group());
-
-      /* update the string search index */
-      index = matcher.end();
-    } while (matcher.find());
-
-    /* append the rest of the string */
-    String tail = value.substring(index, length);
-    encoded.append(encodeChunk(tail, charset, allowReservedCharacters));
-    return encoded.toString();
+    /* value is encoded, skip the parts that are already encoded */
+    byte allowed = allowReservedCharacters ? (byte) (UNRESERVED | RESERVED) : UNRESERVED;
+    return pctEncode(value, charset, allowed, true);
   }
 
   /**
@@ -151,37 +154,122 @@ public class UriUtils {
     if (isEncoded(value, charset)) {
       return value;
     }
+    return pctEncode(
+        value, charset, allowReserved ? (byte) (UNRESERVED | RESERVED) : UNRESERVED, false);
+  }
 
-    byte[] data = value.getBytes(charset);
-    try (ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-      for (byte b : data) {
-        if (isUnreserved((char) b)) {
-          bos.write(b);
-        } else if (isReserved((char) b) && allowReserved) {
-          bos.write(b);
+  /**
+   * Percent Encode the characters of the value outside of the {@code allowed} classes. The value is
+   * returned as is when there is nothing to encode.
+   *
+   * @param value to encode.
+   * @param charset to use for characters outside of US-ASCII.
+   * @param allowed character classes written without encoding.
+   * @param skipPctEncoded if pct-encoded triplets are kept as they are.
+   * @return the encoded value.
+   */
+  private static String pctEncode(
+      String value, Charset charset, byte allowed, boolean skipPctEncoded) {
+    final boolean asciiCompatible = isAsciiCompatible(charset);
+    final int length = value.length();
+    StringBuilder encoded = null;
+    int index = 0;
+    while (index < length) {
+      char c = value.charAt(index);
+      if (skipPctEncoded && c == '%' && isPctEncoded(value, index)) {
+        if (encoded != null) {
+          encoded.append(value, index, index + 3);
+        }
+        index += 3;
+      } else if (asciiCompatible && c < 0x80) {
+        if (isAllowed(c, allowed)) {
+          if (encoded != null) {
+            encoded.append(c);
+          }
         } else {
-          pctEncode(b, bos);
+          if (encoded == null) {
+            encoded = newBuilder(value, index);
+          }
+          appendPctEncoded((byte) c, encoded);
+        }
+        index++;
+      } else {
+        /* encode the whole run of characters the charset may need several bytes for */
+        int end = index + 1;
+        while (end < length && !endsRun(value, end, asciiCompatible, skipPctEncoded)) {
+          end++;
+        }
+        if (encoded == null) {
+          encoded = newBuilder(value, index);
         }
+        for (byte b : value.substring(index, end).getBytes(charset)) {
+          if (isAllowed(b, allowed)) {
+            encoded.append((char) b);
+          } else {
+            appendPctEncoded(b, encoded);
+          }
+        }
+        index = end;
       }
-      return new String(bos.toByteArray(), charset);
-    } catch (IOException ioe) {
-      throw new IllegalStateException(
-          "Error occurred during encoding of the uri: " + ioe.getMessage(), ioe);
     }
+    return encoded != null ? encoded.toString() : value;
+  }
+
+  private static boolean endsRun(
+      String value, int index, boolean asciiCompatible, boolean skipPctEncoded) {
+    char c = value.charAt(index);
+    return (asciiCompatible && c < 0x80)
+        || (skipPctEncoded && c == '%' && isPctEncoded(value, index));
+  }
+
+  private static StringBuilder newBuilder(String value, int prefixLength) {
+    StringBuilder builder = new StringBuilder(value.length() + 16);
+    return builder.append(value, 0, prefixLength);
   }
 
   /**
    * Percent Encode the provided byte.
    *
    * @param data to encode
-   * @param bos with the output stream to use.
+   * @param builder to append to.
+   */
+  private static void appendPctEncoded(byte data, StringBuilder builder) {
+    builder.append('%').append(HEX_DIGITS[(data >> 4) & 0xF]).append(HEX_DIGITS[data & 0xF]);
+  }
+
+  private static boolean isAllowed(int c, byte allowed) {
+    return c >= 0 && c < CHARACTER_CLASSES.length && (CHARACTER_CLASSES[c] & allowed) != 0;
+  }
+
+  private static boolean containsPctEncoded(String value) {
+    for (int i = value.indexOf('%'); i >= 0; i = value.indexOf('%', i + 1)) {
+      if (isPctEncoded(value, i)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** If a pct-encoded triplet, {@code %} followed by two hex digits, starts at the index. */
+  private static boolean isPctEncoded(String value, int index) {
+    return index + 2 < value.length()
+        && value.charAt(index) == '%'
+        && isHexDigit(value.charAt(index + 1))
+        && isHexDigit(value.charAt(index + 2));
+  }
+
+  private static boolean isHexDigit(char c) {
+    return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+  }
+
+  /**
+   * If US-ASCII characters are encoded as the same single byte, on their own, so they can be
+   * written without going through the charset.
    */
-  private static void pctEncode(byte data, ByteArrayOutputStream bos) {
-    bos.write('%');
-    char hex1 = Character.toUpperCase(Character.forDigit((data >> 4) & 0xF, 16));
-    char hex2 = Character.toUpperCase(Character.forDigit(data & 0xF, 16));
-    bos.write(hex1);
-    bos.write(hex2);
+  private static boolean isAsciiCompatible(Charset charset) {
+    return StandardCharsets.UTF_8.equals(charset)
+        || StandardCharsets.ISO_8859_1.equals(charset)
+        || StandardCharsets.US_ASCII.equals(charset);
   }
 
   private static boolean isAlpha(int c) {
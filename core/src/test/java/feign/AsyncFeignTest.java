@@ -635,6 +635,107 @@ public class AsyncFeignTest {
     assertThat(server.getRequestCount()).isEqualTo(4);
   }
 
+  @Test
+  void virtualThreadsExecuteRequests() throws Throwable {
+    // decoding runs on the thread completing the request, unless it completed before the call
+    // returned, in which case it runs on the caller
+    server.enqueue(new MockResponse().setBody("foo").setHeadersDelay(200, TimeUnit.MILLISECONDS));
+
+    AtomicBoolean virtual = new AtomicBoolean();
+    TestInterfaceAsync api =
+        AsyncFeign.builder()
+            .virtualThreads()
+            .decoder(
+                (response, type) -> {
+                  virtual.set(Thread.currentThread().isVirtual());
+                  return Util.toString(response.body().asReader(Util.UTF_8));
+                })
+            .target(TestInterfaceAsync.class, "http://localhost:" + server.getPort());
+
+    assertThat(unwrap(api.post())).isEqualTo("foo");
+    assertThat(virtual).isTrue();
+  }
+
+  @Test
+  void retriesAreScheduledWithoutBlocking() throws Throwable {
+    server.enqueue(new MockResponse().setResponseCode(503).setBody("foo 1"));
+    server.enqueue(new MockResponse().setResponseCode(200).setBody("foo 2"));
+
+    AtomicReference<String> retryThread = new AtomicReference<>();
+    TestInterfaceAsync api =
+        AsyncFeign.builder()
+            .retryer(
+                new Retryer() {
+                  @Override
+                  public void continueOrPropagate(RetryableException e) {
+                    throw new AssertionError("retries must not block");
+                  }
+
+                  @Override
+                  public long delayOrPropagate(RetryableException e) {
+                    return 50;
+                  }
+
+                  @Override
+                  public Retryer clone() {
+                    return this;
+                  }
+                })
+            .requestInterceptor(template -> retryThread.set(Thread.currentThread().getName()))
+            .errorDecoder(
+                (methodKey, response) ->
+                    new RetryableException(
+                        response.status(),
+                        "play it again sam!",
+                        HttpMethod.POST,
+                        NON_RETRYABLE,
+                        response.request()))
+            .target(TestInterfaceAsync.class, "http://localhost:" + server.getPort());
+
+    assertThat(unwrap(api.post())).isEqualTo("foo 2");
+    assertThat(server.getRequestCount()).isEqualTo(2);
+    assertThat(retryThread.get()).startsWith("feign-async-retry-");
+  }
+
+  @Test
+  void callsContinueOrPropagateOfRetryerSubclassesOverridingOnlyIt() throws Throwable {
+    server.enqueue(new MockResponse().setResponseCode(503).setBody("foo 1"));
+    server.enqueue(new MockResponse().setResponseCode(503).setBody("foo 2"));
+    server.enqueue(new MockResponse().setResponseCode(200).setBody("foo 3"));
+
+    AtomicInteger vetoed = new AtomicInteger();
+    TestInterfaceAsync api =
+        AsyncFeign.builder()
+            .retryer(
+                new Retryer.Default(1, 1, 5) {
+                  @Override
+                  public void continueOrPropagate(RetryableException e) {
+                    if (vetoed.incrementAndGet() > 1) {
+                      throw e;
+                    }
+                    super.continueOrPropagate(e);
+                  }
+
+                  @Override
+                  public Retryer clone() {
+                    return this;
+                  }
+                })
+            .errorDecoder(
+                (methodKey, response) ->
+                    new RetryableException(
+                        response.status(),
+                        "play it again sam!",
+                        HttpMethod.POST,
+                        NON_RETRYABLE,
+                        response.request()))
+            .target(TestInterfaceAsync.class, "http://localhost:" + server.getPort());
+
+    assertThrows(RetryableException.class, () -> unwrap(api.post()));
+    assertThat(vetoed.get()).isEqualTo(2);
+    assertThat(server.getRequestCount()).isEqualTo(2);
+  }
+
   @Test
   void throwsOriginalExceptionAfterFailedRetries() throws Throwable {
     server.enqueue(new MockResponse().setResponseCode(503).setBody("foo 1"));
@@ -67,4 +67,26 @@ class BaseBuilderTest {
             .responseInterceptor((ic, c) -> c.next(ic)),
         12);
   }
+
+  @Test
+  void componentsAreOnlyReplacedByCapabilitiesOverridingThem() {
+    Retryer enrichedRetryer = Retryer.NEVER_RETRY;
+    Capability retryerCapability =
+        new Capability() {
+          @Override
+          public Retryer enrich(Retryer retryer) {
+            return enrichedRetryer;
+          }
+        };
+    Feign.Builder builder = Feign.builder().addCapability(retryerCapability);
+
+    for (int i = 0; i < 2; i++) {
+      Feign.Builder enriched = builder.enrich();
+
+      assertNotSame(builder, enriched);
+      assertThat(enriched.retryer).isSameAs(enrichedRetryer);
+      assertThat(enriched.encoder).isSameAs(builder.encoder);
+      assertThat(enriched.contract).isSameAs(builder.contract);
+    }
+  }
 }
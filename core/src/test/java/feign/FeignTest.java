@@ -528,6 +528,45 @@ public class FeignTest {
     assertThat(server.getRequestCount()).isEqualTo(2);
   }
 
+  @Test
+  void stacklessExceptionsSkipStackTraces() throws Exception {
+    server.enqueue(new MockResponse().setResponseCode(404).setBody("not found"));
+    server.enqueue(new MockResponse().setResponseCode(404));
+
+    TestInterface api =
+        new TestInterfaceBuilder()
+            .stacklessExceptions()
+            .target("http://localhost:" + server.getPort());
+
+    FeignException notFound = assertThrows(FeignException.NotFound.class, () -> api.post());
+    assertThat(notFound.getStackTrace()).isEmpty();
+    assertThat(notFound.status()).isEqualTo(404);
+    assertThat(notFound.contentUTF8()).isEqualTo("not found");
+    assertThat(notFound.request()).isNotNull();
+
+    TestInterface defaultApi =
+        new TestInterfaceBuilder().target("http://localhost:" + server.getPort());
+    assertThat(assertThrows(FeignException.NotFound.class, () -> defaultApi.post()).getStackTrace())
+        .isNotEmpty();
+  }
+
+  @Test
+  void stacklessExceptionsSkipStackTracesOfIOErrors() throws Exception {
+    int port = server.getPort();
+    server.shutdown();
+
+    TestInterface api =
+        new TestInterfaceBuilder()
+            .stacklessExceptions()
+            .retryer(Retryer.NEVER_RETRY)
+            .target("http://localhost:" + port);
+
+    RetryableException exception = assertThrows(RetryableException.class, () -> api.post());
+    assertThat(exception.getStackTrace()).isEmpty();
+    assertThat(exception).hasCauseInstanceOf(IOException.class);
+    assertThat(exception.getCause().getStackTrace()).isNotEmpty();
+  }
+
   @Test
   void overrideTypeSpecificDecoder() throws Exception {
     server.enqueue(new MockResponse().setBody("success!"));
@@ -1469,6 +1508,16 @@ public class FeignTest {
       return this;
     }
 
+    TestInterfaceBuilder retryer(Retryer retryer) {
+      delegate.retryer(retryer);
+      return this;
+    }
+
+    TestInterfaceBuilder stacklessExceptions() {
+      delegate.stacklessExceptions();
+      return this;
+    }
+
     TestInterfaceBuilder decodeVoid() {
       delegate.decodeVoid();
       return this;
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2012 The Feign Authors (feign@commonhaus.dev)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package feign;
+
+import feign.InvocationHandlerFactory.MethodHandler;
+
+/** What GenerateClientAPT generates for {@link GeneratedClientTest.Api}. */
+@SuppressWarnings("unchecked")
+public final class GeneratedClientTest$Api$$FeignClient implements feign.GeneratedClientTest.Api {
+
+  private final GeneratedClient client;
+  private final MethodHandler handler0;
+  private final MethodHandler handler1;
+
+  public GeneratedClientTest$Api$$FeignClient(GeneratedClient client) {
+    this.client = client;
+    this.handler0 = client.handler("user", java.lang.String.class);
+    this.handler1 = client.handler("update", java.lang.String.class, java.lang.String.class);
+  }
+
+  @Override
+  public java.lang.String user(java.lang.String id) {
+    try {
+      return (java.lang.String) this.handler0.invoke(new Object[] {id});
+    } catch (Throwable e$) {
+      throw GeneratedClient.propagate(e$);
+    }
+  }
+
+  @Override
+  public void update(java.lang.String id, java.lang.String body) throws java.io.IOException {
+    try {
+      this.handler1.invoke(new Object[] {id, body});
+    } catch (Throwable e$) {
+      throw GeneratedClient.propagate(e$, java.io.IOException.class);
+    }
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof GeneratedClientTest$Api$$FeignClient
+        && client.target().equals(((GeneratedClientTest$Api$$FeignClient) obj).client.target());
+  }
+
+  @Override
+  public int hashCode() {
+    return client.target().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return client.target().toString();
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2012 The Feign Authors (feign@commonhaus.dev)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package feign;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GeneratedClientTest {
+
+  interface Api {
+
+    @RequestLine("GET /users/{id}")
+    String user(@Param("id") String id);
+
+    @RequestLine("POST /users/{id}")
+    void update(@Param("id") String id, String body) throws IOException;
+
+    default String self() {
+      return user("self");
+    }
+  }
+
+  private final List<Request> requests = new ArrayList<>();
+
+  @Test
+  void usesGeneratedClient() throws Exception {
+    Api api = builder().target(Api.class, "http://localhost");
+
+    assertThat(api).isInstanceOf(GeneratedClientTest$Api$$FeignClient.class);
+    assertThat(api.user("denominator")).isEqualTo("ok");
+    assertThat(api.self()).isEqualTo("ok");
+    api.update("denominator", "body");
+
+    assertThat(requests)
+        .extracting(Request::url)
+        .containsExactly(
+            "http://localhost/users/denominator",
+            "http://localhost/users/self",
+            "http://localhost/users/denominator");
+    assertThat(api.toString()).contains("http://localhost");
+    assertThat(api).isEqualTo(builder().target(Api.class, "http://localhost"));
+  }
+
+  @Test
+  void customInvocationHandlerFactoryUsesProxy() {
+    Api api =
+        builder()
+            .invocationHandlerFactory(ReflectiveFeign.FeignInvocationHandler::new)
+            .target(Api.class, "http://localhost");
+
+    assertThat(Proxy.isProxyClass(api.getClass())).isTrue();
+    assertThat(api.user("denominator")).isEqualTo("ok");
+  }
+
+  @Test
+  void exceptionsArePropagatedLikeProxies() {
+    IOException declared = new IOException("declared");
+    assertThat(assertThrows(IOException.class, () -> throwFrom(declared, IOException.class)))
+        .isSameAs(declared);
+
+    Exception undeclared = new Exception("undeclared");
+    assertThat(assertThrows(UndeclaredThrowableException.class, () -> throwFrom(undeclared)))
+        .hasCause(undeclared);
+
+    IllegalStateException unchecked = new IllegalStateException();
+    assertThat(assertThrows(IllegalStateException.class, () -> throwFrom(unchecked)))
+        .isSameAs(unchecked);
+  }
+
+  @Test
+  void nestedAndTopLevelInterfacesGetDistinctClientNames() {
+    assertThat(GeneratedClient.className("a.Outer$Inner")).isEqualTo("a.Outer$Inner$$FeignClient");
+    assertThat(GeneratedClient.className("a.Outer_Inner")).isEqualTo("a.Outer_Inner$$FeignClient");
+  }
+
+  private static void throwFrom(Throwable e, Class<?>... declared) throws IOException {
+    throw GeneratedClient.propagate(e, declared);
+  }
+
+  private Feign.Builder builder() {
+    return Feign.builder()
+        .client(
+            (request, options) -> {
+              requests.add(request);
+              return Response.builder()
+                  .status(200)
+                  .reason("OK")
+                  .request(request)
+                  .headers(Collections.emptyMap())
+                  .body("ok", Util.UTF_8)
+                  .build();
+            });
+  }
+}
@@ -17,6 +17,7 @@ package feign;
 
 import static feign.Util.enumForName;
 import static java.util.Objects.nonNull;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import feign.Logger.Level;
@@ -27,9 +28,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -504,6 +509,174 @@ public class LoggerTest {
     }
   }
 
+  public static class StreamedResponseBodyTest extends LoggerTest {
+
+    @Test
+    void logsBodyAsItIsRead() {
+      server.enqueue(new MockResponse().setBody("foobarbaz"));
+
+      SendsStuff api =
+          Feign.builder()
+              .logger(logger.streamResponseBodies(4))
+              .logLevel(Level.FULL)
+              .target(SendsStuff.class, "http://localhost:" + server.getPort());
+
+      assertThat(api.login("netflix", "denominator", "password")).isEqualTo("foobarbaz");
+      assertThat(logger.messages)
+          .endsWith(
+              "[SendsStuff#login] ",
+              "[SendsStuff#login] foob...",
+              "[SendsStuff#login] <--- END HTTP (9-byte body)");
+    }
+
+    @Test
+    void doesNotLogIncompleteCharacters() {
+      server.enqueue(new MockResponse().setBody("añb"));
+
+      SendsStuff api =
+          Feign.builder()
+              .logger(logger.streamResponseBodies(2))
+              .logLevel(Level.FULL)
+              .target(SendsStuff.class, "http://localhost:" + server.getPort());
+
+      assertThat(api.login("netflix", "denominator", "password")).isEqualTo("añb");
+      assertThat(logger.messages)
+          .endsWith("[SendsStuff#login] a...", "[SendsStuff#login] <--- END HTTP (4-byte body)");
+    }
+
+    @Test
+    void countsBodyAtHeadersLevel() {
+      server.enqueue(new MockResponse().setBody("foobarbaz"));
+
+      SendsStuff api =
+          Feign.builder()
+              .logger(logger.streamResponseBodies(4))
+              .logLevel(Level.HEADERS)
+              .target(SendsStuff.class, "http://localhost:" + server.getPort());
+
+      assertThat(api.login("netflix", "denominator", "password")).isEqualTo("foobarbaz");
+      assertThat(logger.messages)
+          .endsWith(
+              "[SendsStuff#login] content-length: 9",
+              "[SendsStuff#login] <--- END HTTP (9-byte body)");
+    }
+  }
+
+  public static class AsyncLoggerTest extends LoggerTest {
+
+    @Test
+    void writesLinesOnBackgroundThread() {
+      server.enqueue(new MockResponse().setBody("foo"));
+      List<String> threads = new CopyOnWriteArrayList<>();
+      Logger.AsyncLogger asyncLogger =
+          new Logger.AsyncLogger(
+              new Logger() {
+                @Override
+                protected void log(String configKey, String format, Object... args) {
+                  threads.add(Thread.currentThread().getName());
+                  logger.log(configKey, format, args);
+                }
+              });
+
+      SendsStuff api =
+          Feign.builder()
+              .logger(asyncLogger)
+              .logLevel(Level.BASIC)
+              .target(SendsStuff.class, "http://localhost:" + server.getPort());
+      api.login("netflix", "denominator", "password");
+      asyncLogger.close();
+
+      assertThat(logger.messages).hasSize(2);
+      assertThat(logger.messages.get(0)).startsWith("[SendsStuff#login] ---> POST");
+      assertThat(logger.messages.get(1)).startsWith("[SendsStuff#login] <--- HTTP/1.1 200 OK");
+      assertThat(threads).containsOnly("feign-async-logger");
+    }
+
+    @Test
+    void dropsLinesWhenFull() throws Exception {
+      CountDownLatch release = new CountDownLatch(1);
+      AtomicInteger written = new AtomicInteger();
+      Logger.AsyncLogger asyncLogger =
+          new Logger.AsyncLogger(
+              new Logger() {
+                @Override
+                protected void log(String configKey, String format, Object... args) {
+                  try {
+                    release.await();
+                  } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                  }
+                  written.incrementAndGet();
+                }
+              },
+              1,
+              Logger.AsyncLogger.OverflowPolicy.DROP);
+
+      for (int i = 0; i < 10; i++) {
+        asyncLogger.log("Api#get()", "line %s", i);
+      }
+      release.countDown();
+      asyncLogger.close();
+
+      assertThat(asyncLogger.droppedLines()).isGreaterThanOrEqualTo(8);
+      assertThat(written.get() + asyncLogger.droppedLines()).isEqualTo(10);
+    }
+
+    @Test
+    void blocksWhenFull() {
+      AtomicInteger written = new AtomicInteger();
+      Logger.AsyncLogger asyncLogger =
+          new Logger.AsyncLogger(
+              new Logger() {
+                @Override
+                protected void log(String configKey, String format, Object... args) {
+                  written.incrementAndGet();
+                }
+              },
+              1,
+              Logger.AsyncLogger.OverflowPolicy.BLOCK);
+
+      for (int i = 0; i < 100; i++) {
+        asyncLogger.log("Api#get()", "line %s", i);
+      }
+      asyncLogger.close();
+
+      assertThat(asyncLogger.droppedLines()).isZero();
+      assertThat(written).hasValue(100);
+    }
+
+    @Test
+    void startsBackgroundThreadOnFirstLineAndKeepsItWhileIdle() throws Exception {
+      List<Thread> threads = new CopyOnWriteArrayList<>();
+      Logger.AsyncLogger asyncLogger =
+          new Logger.AsyncLogger(
+              new Logger() {
+                @Override
+                protected void log(String configKey, String format, Object... args) {
+                  threads.add(Thread.currentThread());
+                }
+              },
+              16,
+              Logger.AsyncLogger.OverflowPolicy.DROP);
+
+      assertThat(asyncLogger.writer()).isNull();
+
+      for (int round = 1; round <= 2; round++) {
+        asyncLogger.log("Api#get()", "line %s", round);
+        for (int i = 0; i < 500 && threads.size() < round; i++) {
+          Thread.sleep(10);
+        }
+        assertThat(threads).hasSize(round);
+        // idle, the background thread parks
+        Thread.sleep(50);
+      }
+      asyncLogger.close();
+
+      assertThat(threads).containsOnly(asyncLogger.writer());
+      assertThat(asyncLogger.writer().isAlive()).isFalse();
+    }
+  }
+
   private static final class RecordingLogger extends Logger {
 
     private static final String PREFIX_X = "x-";
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2012 The Feign Authors (feign@commonhaus.dev)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package feign;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MethodMetadataCacheTest {
+
+  interface Api {
+
+    @RequestLine("GET /")
+    void get();
+  }
+
+  static class CountingContract implements Contract {
+
+    final AtomicInteger parsed = new AtomicInteger();
+    private final Contract delegate = new Contract.Default();
+
+    @Override
+    public List<MethodMetadata> parseAndValidateMetadata(Class<?> targetType) {
+      parsed.incrementAndGet();
+      return delegate.parseAndValidateMetadata(targetType);
+    }
+  }
+
+  @Test
+  void defaultContractsShareMetadata() {
+    assertThat(MethodMetadataCache.parseAndValidateMetadata(new Contract.Default(), Api.class))
+        .isSameAs(MethodMetadataCache.parseAndValidateMetadata(new Contract.Default(), Api.class));
+  }
+
+  static class StatelessContract extends Contract.Default {
+
+    @Override
+    protected boolean isStateless() {
+      return getClass() == StatelessContract.class;
+    }
+  }
+
+  @Test
+  void statelessContractsShareMetadataPerClass() {
+    assertThat(MethodMetadataCache.parseAndValidateMetadata(new StatelessContract(), Api.class))
+        .isSameAs(MethodMetadataCache.parseAndValidateMetadata(new StatelessContract(), Api.class))
+        .isNotSameAs(
+            MethodMetadataCache.parseAndValidateMetadata(new Contract.Default(), Api.class));
+  }
+
+  @Test
+  void subclassesOfStatelessContractsAreCachedPerInstance() {
+    Contract contract = new Contract.Default() {};
+
+    assertThat(MethodMetadataCache.parseAndValidateMetadata(contract, Api.class))
+        .isSameAs(MethodMetadataCache.parseAndValidateMetadata(contract, Api.class))
+        .isNotSameAs(
+            MethodMetadataCache.parseAndValidateMetadata(new Contract.Default() {}, Api.class));
+  }
+
+  @Test
+  void otherContractsAreCachedPerInstance() {
+    CountingContract contract = new CountingContract();
+    Feign.builder().contract(contract).target(Api.class, "http://localhost");
+    Feign.builder().contract(contract).target(Api.class, "http://localhost:8080");
+
+    assertThat(contract.parsed).hasValue(1);
+
+    CountingContract other = new CountingContract();
+    Feign.builder().contract(other).target(Api.class, "http://localhost");
+
+    assertThat(other.parsed).hasValue(1);
+  }
+}
@@ -135,4 +135,32 @@ class OptionsTest {
     thread.start();
     thread.join();
   }
+
+  @Test
+  void withMethodOptionsAppliesToEveryThread() throws Exception {
+    Request.Options defaults = new Request.Options(1000, 1000);
+    Request.Options getOptions = new Request.Options(1000, 3000);
+    Request.Options options = defaults.withMethodOptions("get", getOptions);
+
+    AtomicReference<Request.Options> otherThread = new AtomicReference<>();
+    Thread thread = new Thread(() -> otherThread.set(options.getMethodOptions("get")));
+    thread.start();
+    thread.join();
+
+    assertThat(options.getMethodOptions("get")).isSameAs(getOptions);
+    assertThat(otherThread.get()).isSameAs(getOptions);
+    assertThat(options.getMethodOptions("post")).isSameAs(options);
+    assertThat(defaults.getMethodOptions("get")).isSameAs(defaults);
+  }
+
+  @Test
+  void threadMethodOptionsTakePrecedence() {
+    Request.Options threadOptions = new Request.Options(1000, 2000);
+    Request.Options options =
+        new Request.Options(1000, 1000).withMethodOptions("get", new Request.Options(1000, 3000));
+
+    options.setMethodOptions("get", threadOptions);
+
+    assertThat(options.getMethodOptions("get")).isSameAs(threadOptions);
+  }
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2012 The Feign Authors (feign@commonhaus.dev)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package feign;
+
+import static feign.Util.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+class PrecompiledRequestTemplateTest {
+
+  interface Api {
+
+    @RequestLine("GET /users/{id}/repos?sort={sort}&page={page}")
+    @Headers("X-Trace: {trace}")
+    void plain(
+        @Param("id") String id,
+        @Param("sort") String sort,
+        @Param("page") Integer page,
+        @Param("trace") String trace);
+
+    @RequestLine("GET /items?id={id}")
+    void iterable(@Param("id") List<String> ids);
+
+    @RequestLine("GET /{value}")
+    void expanded(@Param(value = "value", expander = Upper.class) String value);
+
+    @RequestLine("GET /{name}?other={name}")
+    void duplicated(@Param("name") String first, @Param("name") String second);
+
+    @RequestLine("GET /search")
+    void queryMap(@QueryMap Map<String, Object> query);
+
+    @RequestLine("GET /{path}")
+    void uri(URI host, @Param("path") String path);
+
+    @RequestLine("POST /")
+    @Body("%7B\"user\": \"{user}\"%7D")
+    @Headers("Content-Type: application/json")
+    void bodyTemplate(@Param("user") String user);
+
+    @RequestLine("POST /login")
+    void form(@Param("user") String user, @Param("password") String password);
+
+    @RequestLine("POST /{id}")
+    void body(@Param("id") String id, String body);
+  }
+
+  static class Upper implements Param.Expander {
+
+    @Override
+    public String expand(Object value) {
+      return value.toString().toUpperCase();
+    }
+  }
+
+  @Test
+  void plainMethod() {
+    assertSameRequest(api -> api.plain("denominator", "asc", 2, "abc"));
+    assertSameRequest(api -> api.plain("denominator", null, null, null));
+  }
+
+  @Test
+  void iterableParameter() {
+    assertSameRequest(api -> api.iterable(Arrays.asList("1", "2")));
+  }
+
+  @Test
+  void expanderParameter() {
+    Request request = precompiled(api -> api.expanded("lower"));
+
+    assertThat(request.url()).isEqualTo("http://localhost/LOWER");
+  }
+
+  @Test
+  void lastNonNullArgumentWinsForDuplicatedNames() {
+    assertSameRequest(api -> api.duplicated("first", "second"));
+    assertSameRequest(api -> api.duplicated("first", null));
+    assertSameRequest(api -> api.duplicated(null, null));
+  }
+
+  @Test
+  void queryMapParameter() {
+    Map<String, Object> query = new LinkedHashMap<>();
+    query.put("q", "feign");
+    query.put("limit", 10);
+
+    assertSameRequest(api -> api.queryMap(query));
+  }
+
+  @Test
+  void uriParameter() {
+    Request request = precompiled(api -> api.uri(URI.create("http://example.com"), "root"));
+
+    assertThat(request.url()).isEqualTo("http://example.com/root");
+  }
+
+  @Test
+  void bodyTemplateMethod() {
+    assertSameRequest(api -> api.bodyTemplate("denominator"));
+  }
+
+  @Test
+  void formMethod() {
+    assertSameRequest(api -> api.form("denominator", "secret"));
+  }
+
+  @Test
+  void bodyMethod() {
+    assertSameRequest(api -> api.body("42", "content"));
+  }
+
+  @Test
+  void parsedTemplateIsNotModified() {
+    List<Request> requests = new ArrayList<>();
+    Api api = api(Feign.builder().precompileRequestTemplates(), requests);
+
+    api.plain("denominator", "asc", 2, "abc");
+    api.plain("other", null, null, null);
+
+    assertThat(requests.get(0).url())
+        .isEqualTo("http://localhost/users/denominator/repos?sort=asc&page=2");
+    assertThat(requests.get(0).headers()).containsKey("X-Trace");
+    assertThat(requests.get(1).url()).isEqualTo("http://localhost/users/other/repos");
+    assertThat(requests.get(1).headers()).doesNotContainKey("X-Trace");
+  }
+
+  private static void assertSameRequest(Consumer<Api> call) {
+    Request expected = execute(Feign.builder(), call);
+    Request actual = precompiled(call);
+
+    assertThat(actual.httpMethod()).isEqualTo(expected.httpMethod());
+    assertThat(actual.url()).isEqualTo(expected.url());
+    assertThat(actual.headers()).isEqualTo(expected.headers());
+    assertThat(actual.body()).isEqualTo(expected.body());
+    assertThat(actual.requestTemplate().feignTarget())
+        .isEqualTo(expected.requestTemplate().feignTarget());
+  }
+
+  private static Request precompiled(Consumer<Api> call) {
+    return execute(Feign.builder().precompileRequestTemplates(), call);
+  }
+
+  private static Request execute(Feign.Builder builder, Consumer<Api> call) {
+    List<Request> requests = new ArrayList<>();
+    call.accept(api(builder, requests));
+    return requests.get(0);
+  }
+
+  private static Api api(Feign.Builder builder, List<Request> requests) {
+    return builder
+        .client(
+            (request, options) -> {
+              requests.add(request);
+              return Response.builder()
+                  .status(200)
+                  .reason("OK")
+                  .request(request)
+                  .headers(Collections.emptyMap())
+                  .body(new byte[0])
+                  .build();
+            })
+        .encoder(
+            (object, bodyType, template) -> {
+              if (object instanceof Map) {
+                template.body(object.toString());
+              } else {
+                template.body(String.valueOf(object).getBytes(UTF_8), UTF_8);
+              }
+            })
+        .target(Api.class, "http://localhost");
+  }
+}
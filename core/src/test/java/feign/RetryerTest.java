@@ -70,6 +70,36 @@ class RetryerTest {
     assertThat(retryer.sleptForMillis).isEqualTo(1000);
   }
 
+  @Test
+  void delayOrPropagateDoesNotSleep() {
+    final Long nonRetryable = null;
+    RetryableException e = new RetryableException(-1, null, null, nonRetryable, REQUEST);
+    Default retryer = new Retryer.Default();
+
+    assertThat(retryer.delayOrPropagate(e)).isEqualTo(150);
+    assertThat(retryer.delayOrPropagate(e)).isEqualTo(225);
+    assertThat(retryer.delayOrPropagate(e)).isEqualTo(337);
+    assertThat(retryer.delayOrPropagate(e)).isEqualTo(506);
+    assertThat(retryer.sleptForMillis).isEqualTo(0);
+    assertThrows(RetryableException.class, () -> retryer.delayOrPropagate(e));
+  }
+
+  @Test
+  void delayOrPropagateConsidersRetryAfter() {
+    Default retryer =
+        new Retryer.Default() {
+          @Override
+          protected long currentTimeMillis() {
+            return 0;
+          }
+        };
+
+    assertThat(retryer.delayOrPropagate(new RetryableException(-1, null, null, 5000L, REQUEST)))
+        .isEqualTo(1000);
+    assertThat(retryer.delayOrPropagate(new RetryableException(-1, null, null, -10L, REQUEST)))
+        .isEqualTo(0);
+  }
+
   @Test
   void neverRetryAlwaysPropagates() {
     assertThrows(
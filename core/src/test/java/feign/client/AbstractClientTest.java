@@ -331,6 +331,25 @@ public abstract class AbstractClientTest {
     assertThat(body).isEqualToIgnoringCase("àáâãäåèéêë");
   }
 
+  @Test
+  void streamingBody() throws Exception {
+    server.enqueue(new MockResponse().setBody("foo"));
+    byte[] content = "streamed content".getBytes(UTF_8);
+    TestInterface api =
+        newBuilder()
+            .encoder(
+                (object, bodyType, template) ->
+                    template.body(out -> out.write(content), content.length, UTF_8))
+            .target(TestInterface.class, "http://localhost:" + server.getPort());
+
+    api.post("ignored");
+
+    MockWebServerAssertions.assertThat(server.takeRequest())
+        .hasMethod("POST")
+        .hasHeaders(entry("Content-Length", Collections.singletonList("16")))
+        .hasBody(content);
+  }
+
   @Test
   void defaultCollectionFormat() throws Exception {
     server.enqueue(new MockResponse().setBody("body"));
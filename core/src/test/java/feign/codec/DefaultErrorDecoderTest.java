@@ -25,12 +25,16 @@ import feign.Request.HttpMethod;
 import feign.Response;
 import feign.Util;
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 @SuppressWarnings("deprecation")
@@ -160,6 +164,51 @@ class DefaultErrorDecoderTest {
         .isGreaterThanOrEqualTo(response.body().length());
   }
 
+  @Test
+  void boundedBodyCaptureReadsOnlyPrefix() throws Exception {
+    byte[] content = new byte[1024 * 1024];
+    Arrays.fill(content, (byte) 'a');
+    AtomicInteger read = new AtomicInteger();
+    InputStream inputStream =
+        new FilterInputStream(new ByteArrayInputStream(content)) {
+          @Override
+          public int read(byte[] b, int off, int len) throws IOException {
+            int count = super.read(b, off, len);
+            read.addAndGet(Math.max(count, 0));
+            return count;
+          }
+        };
+    Response response =
+        Response.builder()
+            .status(500)
+            .reason("Internal server error")
+            .request(
+                Request.create(HttpMethod.GET, "/api", Collections.emptyMap(), null, Util.UTF_8))
+            .headers(headers)
+            .body(inputStream, content.length)
+            .build();
+
+    FeignException exception =
+        (FeignException)
+            new ErrorDecoder.Default(null, null, true).decode("Service#foo()", response);
+
+    assertThat(read.get()).isEqualTo(400);
+    assertThat(exception.responseBody().get().remaining()).isEqualTo(400);
+    assertThat(exception.getMessage()).endsWith("... (" + content.length + " bytes)]");
+  }
+
+  @Test
+  void boundedBodyCaptureKeepsShortBodies() throws Throwable {
+    Response response = bigBodyResponse();
+    String content = Util.toString(response.body().asReader(UTF_8));
+
+    FeignException exception =
+        (FeignException)
+            new ErrorDecoder.Default(4000, 2000, true).decode("Service#foo()", bigBodyResponse());
+
+    assertThat(exception.contentUTF8()).isEqualTo(content);
+  }
+
   private Response bigBodyResponse() {
     String content =
         """
@@ -15,6 +15,7 @@
  */
 package feign.template;
 
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -43,6 +44,25 @@ class UriUtilsTest {
     assertThat(encoded).isEqualTo("/api/user@host:port#section[a-z]/data");
   }
 
+  /** already pct-encoded triplets are kept, the rest of the value is encoded. */
+  @Test
+  void pctEncodeSkipsEncodedTriplets() {
+    assertThat(UriUtils.encode("a b%2Fc/d%", UTF_8, true)).isEqualTo("a%20b%2Fc/d%25");
+    assertThat(UriUtils.encode("a b%2Fc/d%", UTF_8, false)).isEqualTo("a%20b%2Fc%2Fd%25");
+    assertThat(UriUtils.encode("é%20€", UTF_8, false)).isEqualTo("%C3%A9%20%E2%82%AC");
+    assertThat(UriUtils.encode("é%20", ISO_8859_1, false)).isEqualTo("%E9%20");
+  }
+
+  @Test
+  void valuesWithoutCharactersToEncodeAreReturnedAsIs() {
+    String value = "users-42_a.b~c";
+    assertThat(UriUtils.encode(value, UTF_8)).isSameAs(value);
+    assertThat(UriUtils.encode(value, UTF_8, false)).isSameAs(value);
+
+    String reserved = "/users/42?sort=asc";
+    assertThat(UriUtils.encode(reserved, UTF_8, true)).isSameAs(reserved);
+  }
+
   @ParameterizedTest
   @MethodSource("provideValuesToEncode")
   void testVariousEncodingScenarios(String input, String expected) {
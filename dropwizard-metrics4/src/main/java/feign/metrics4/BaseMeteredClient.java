@@ -27,75 +27,106 @@ class BaseMeteredClient {
   protected final MetricRegistry metricRegistry;
   protected final FeignMetricName metricName;
   protected final MetricSuppliers metricSuppliers;
+  private final MetricCache metricCache;
 
   public BaseMeteredClient(
       MetricRegistry metricRegistry, FeignMetricName metricName, MetricSuppliers metricSuppliers) {
     this.metricRegistry = metricRegistry;
+    this.metricCache = new MetricCache(metricRegistry);
     this.metricName = metricName;
     this.metricSuppliers = metricSuppliers;
   }
 
   protected Timer.Context createTimer(RequestTemplate template) {
-    return metricRegistry
-        .timer(
-            MetricRegistry.name(
-                metricName.metricName(template.methodMetadata(), template.feignTarget()),
-                "uri",
-                template.methodMetadata().template().path()),
-            metricSuppliers.timers())
+    return metricCache
+        .get(
+            "timer",
+            template.methodMetadata(),
+            template.feignTarget().url(),
+            0,
+            null,
+            () ->
+                metricRegistry.timer(
+                    MetricRegistry.name(
+                        metricName.metricName(template.methodMetadata(), template.feignTarget()),
+                        "uri",
+                        template.methodMetadata().template().path()),
+                    metricSuppliers.timers()))
         .time();
   }
 
   protected void recordSuccess(RequestTemplate template, Response response) {
-    metricRegistry
-        .meter(
-            MetricRegistry.name(
-                httpResponseCode(template),
-                "status_group",
-                response.status() / 100 + "xx",
-                "http_status",
-                String.valueOf(response.status()),
-                "http_method",
-                template.methodMetadata().template().method(),
-                "uri",
-                template.methodMetadata().template().path()),
-            metricSuppliers.meters())
+    final int status = response.status();
+    metricCache
+        .get(
+            "http_response_code",
+            template.methodMetadata(),
+            template.feignTarget().url(),
+            status,
+            null,
+            () ->
+                metricRegistry.meter(
+                    MetricRegistry.name(
+                        httpResponseCode(template),
+                        "status_group",
+                        status / 100 + "xx",
+                        "http_status",
+                        String.valueOf(status),
+                        "http_method",
+                        template.methodMetadata().template().method(),
+                        "uri",
+                        template.methodMetadata().template().path()),
+                    metricSuppliers.meters()))
         .mark();
   }
 
   protected void recordFailure(RequestTemplate template, FeignException e) {
-    metricRegistry
-        .meter(
-            MetricRegistry.name(
-                httpResponseCode(template),
-                "exception_name",
-                e.getClass().getSimpleName(),
-                "root_cause_name",
-                ExceptionUtils.getRootCause(e).getClass().getSimpleName(),
-                "status_group",
-                e.status() / 100 + "xx",
-                "http_status",
-                String.valueOf(e.status()),
-                "http_method",
-                template.methodMetadata().template().method(),
-                "uri",
-                template.methodMetadata().template().path()),
-            metricSuppliers.meters())
+    metricCache
+        .get(
+            "http_response_code",
+            template.methodMetadata(),
+            template.feignTarget().url(),
+            e.status(),
+            e,
+            () ->
+                metricRegistry.meter(
+                    MetricRegistry.name(
+                        httpResponseCode(template),
+                        "exception_name",
+                        e.getClass().getSimpleName(),
+                        "root_cause_name",
+                        ExceptionUtils.getRootCause(e).getClass().getSimpleName(),
+                        "status_group",
+                        e.status() / 100 + "xx",
+                        "http_status",
+                        String.valueOf(e.status()),
+                        "http_method",
+                        template.methodMetadata().template().method(),
+                        "uri",
+                        template.methodMetadata().template().path()),
+                    metricSuppliers.meters()))
         .mark();
   }
 
   protected void recordFailure(RequestTemplate template, Exception e) {
-    metricRegistry
-        .meter(
-            MetricRegistry.name(
-                httpResponseCode(template),
-                "exception_name",
-                e.getClass().getSimpleName(),
-                "root_cause_name",
-                ExceptionUtils.getRootCause(e).getClass().getSimpleName(),
-                "uri",
-                template.methodMetadata().template().path()),
-            metricSuppliers.meters())
+    metricCache
+        .get(
+            "http_response_code_exception",
+            template.methodMetadata(),
+            template.feignTarget().url(),
+            0,
+            e,
+            () ->
+                metricRegistry.meter(
+                    MetricRegistry.name(
+                        httpResponseCode(template),
+                        "exception_name",
+                        e.getClass().getSimpleName(),
+                        "root_cause_name",
+                        ExceptionUtils.getRootCause(e).getClass().getSimpleName(),
+                        "uri",
+                        template.methodMetadata().template().path()),
+                    metricSuppliers.meters()))
         .mark();
   }
 
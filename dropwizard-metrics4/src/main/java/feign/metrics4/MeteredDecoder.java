@@ -32,11 +32,13 @@ public class MeteredDecoder implements Decoder {
   private final MetricRegistry metricRegistry;
   private final MetricSuppliers metricSuppliers;
   private final FeignMetricName metricName;
+  private final MetricCache metricCache;
 
   public MeteredDecoder(
       Decoder decoder, MetricRegistry metricRegistry, MetricSuppliers metricSuppliers) {
     this.decoder = decoder;
     this.metricRegistry = metricRegistry;
+    this.metricCache = new MetricCache(metricRegistry);
     this.metricSuppliers = metricSuppliers;
     this.metricName = new FeignMetricName(Decoder.class);
   }
@@ -45,29 +47,49 @@ public class MeteredDecoder implements Decoder {
   public Object decode(Response response, Type type)
       throws IOException, DecodeException, FeignException {
     final RequestTemplate template = response.request().requestTemplate();
-    final MeteredBody body = response.body() == null ? null : new MeteredBody(response.body());
+    final MeteredBody body =
+        response.body() == null || !metricSuppliers.meterBodySizes()
+            ? null
+            : new MeteredBody(response.body());
 
-    response = response.toBuilder().body(body).build();
+    if (body != null) {
+      response = response.toBuilder().body(body).build();
+    }
 
     final Object decoded;
     try (final Timer.Context classTimer =
-        metricRegistry
-            .timer(
-                MetricRegistry.name(
-                    metricName.metricName(template.methodMetadata(), template.feignTarget()),
-                    "uri",
-                    template.methodMetadata().template().path()),
-                metricSuppliers.timers())
+        metricCache
+            .get(
+                "timer",
+                template.methodMetadata(),
+                template.feignTarget().url(),
+                0,
+                null,
+                () ->
+                    metricRegistry.timer(
+                        MetricRegistry.name(
+                            metricName.metricName(
+                                template.methodMetadata(), template.feignTarget()),
+                            "uri",
+                            template.methodMetadata().template().path()),
+                        metricSuppliers.timers()))
             .time()) {
       decoded = decoder.decode(response, type);
     }
 
     if (body != null) {
-      metricRegistry
-          .histogram(
-              metricName.metricName(
-                  template.methodMetadata(), template.feignTarget(), "response_size"),
-              metricSuppliers.histograms())
+      metricCache
+          .get(
+              "response_size",
+              template.methodMetadata(),
+              template.feignTarget().url(),
+              0,
+              null,
+              () ->
+                  metricRegistry.histogram(
+                      metricName.metricName(
+                          template.methodMetadata(), template.feignTarget(), "response_size"),
+                      metricSuppliers.histograms()))
           .update(body.count());
     }
 
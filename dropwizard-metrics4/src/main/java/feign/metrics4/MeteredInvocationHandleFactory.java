@@ -46,12 +46,15 @@ public class MeteredInvocationHandleFactory implements InvocationHandlerFactory
 
   private final MetricSuppliers metricSuppliers;
 
+  private final MetricCache metricCache;
+
   public MeteredInvocationHandleFactory(
       InvocationHandlerFactory invocationHandler,
       MetricRegistry metricRegistry,
       MetricSuppliers metricSuppliers) {
     this.invocationHandler = invocationHandler;
     this.metricRegistry = metricRegistry;
+    this.metricCache = new MetricCache(metricRegistry);
     this.metricSuppliers = metricSuppliers;
     this.metricName = new FeignMetricName(Feign.class);
   }
@@ -68,33 +71,54 @@ public class MeteredInvocationHandleFactory implements InvocationHandlerFactory
       }
 
       try (final Timer.Context classTimer =
-          metricRegistry
-              .timer(
-                  metricName.metricName(clientClass, method, target.url()),
-                  metricSuppliers.timers())
+          metricCache
+              .get(
+                  "timer",
+                  method,
+                  target.url(),
+                  0,
+                  null,
+                  () ->
+                      metricRegistry.timer(
+                          metricName.metricName(clientClass, method, target.url()),
+                          metricSuppliers.timers()))
               .time()) {
 
         return invocationHandle.invoke(proxy, method, args);
       } catch (final FeignException e) {
-        metricRegistry
-            .meter(
-                MetricRegistry.name(
-                    metricName.metricName(clientClass, method, target.url()),
-                    "http_error",
-                    e.status() / 100 + "xx",
-                    String.valueOf(e.status())),
-                metricSuppliers.meters())
+        metricCache
+            .get(
+                "http_error",
+                method,
+                target.url(),
+                e.status(),
+                e,
+                () ->
+                    metricRegistry.meter(
+                        MetricRegistry.name(
+                            metricName.metricName(clientClass, method, target.url()),
+                            "http_error",
+                            e.status() / 100 + "xx",
+                            String.valueOf(e.status())),
+                        metricSuppliers.meters()))
             .mark();
 
         throw e;
       } catch (final Throwable e) {
-        metricRegistry
-            .meter(
-                MetricRegistry.name(
-                    metricName.metricName(clientClass, method, target.url()),
-                    "exception",
-                    e.getClass().getSimpleName()),
-                metricSuppliers.meters())
+        metricCache
+            .get(
+                "exception",
+                method,
+                target.url(),
+                0,
+                e,
+                () ->
+                    metricRegistry.meter(
+                        MetricRegistry.name(
+                            metricName.metricName(clientClass, method, target.url()),
+                            "exception",
+                            e.getClass().getSimpleName()),
+                        metricSuppliers.meters()))
             .mark();
 
         throw e;
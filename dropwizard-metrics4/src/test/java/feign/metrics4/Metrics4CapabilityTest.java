@@ -15,19 +15,71 @@
  */
 package feign.metrics4;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codahale.metrics.Counting;
 import com.codahale.metrics.Metered;
 import com.codahale.metrics.Metric;
 import com.codahale.metrics.MetricRegistry;
 import feign.Capability;
+import feign.Feign;
 import feign.Util;
 import feign.micrometer.AbstractMetricsTestBase;
+import feign.mock.HttpMethod;
+import feign.mock.MockClient;
+import feign.mock.MockTarget;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Map.Entry;
+import org.junit.jupiter.api.Test;
 
 public class Metrics4CapabilityTest
     extends AbstractMetricsTestBase<MetricRegistry, String, Metric> {
 
+  @Test
+  void bodySizesCanBeSkipped() {
+    final MetricSuppliers withoutBodySizes =
+        new MetricSuppliers() {
+          @Override
+          public boolean meterBodySizes() {
+            return false;
+          }
+        };
+    final SimpleSource source =
+        Feign.builder()
+            .client(new MockClient().ok(HttpMethod.GET, "/get", "1234567890abcde"))
+            .addCapability(new Metrics4Capability(metricsRegistry, withoutBodySizes))
+            .target(new MockTarget<>(SimpleSource.class));
+
+    source.get("0x3456789");
+
+    assertThat(getFeignMetrics()).isNotEmpty();
+    assertThat(getFeignMetrics().keySet())
+        .noneMatch(metricId -> metricId.contains("request_size"))
+        .noneMatch(metricId -> metricId.contains("response_size"));
+  }
+
+  @Test
+  void removedMetricsAreRegisteredAgain() {
+    final SimpleSource source =
+        Feign.builder()
+            .client(
+                new MockClient(true)
+                    .ok(HttpMethod.GET, "/get", "1")
+                    .ok(HttpMethod.GET, "/get", "2"))
+            .addCapability(createMetricCapability())
+            .target(new MockTarget<>(SimpleSource.class));
+
+    source.get("a");
+    final Metric removed = getMetric("http_response_code", "http_status", "200");
+    metricsRegistry.removeMatching((name, metric) -> metric == removed);
+    source.get("b");
+
+    final Metric registered = getMetric("http_response_code", "http_status", "200");
+    assertThat(registered).isNotNull().isNotSameAs(removed);
+    assertThat(((Counting) registered).getCount()).isEqualTo(1);
+  }
+
   @Override
   protected MetricRegistry createMetricsRegistry() {
     return new MetricRegistry();
@@ -28,58 +28,91 @@ public class BaseMeteredClient {
   protected final MetricRegistry metricRegistry;
   protected final FeignMetricName metricName;
   protected final MetricSuppliers metricSuppliers;
+  private final MetricCache metricCache;
 
   public BaseMeteredClient(
       MetricRegistry metricRegistry, FeignMetricName metricName, MetricSuppliers metricSuppliers) {
     super();
     this.metricRegistry = metricRegistry;
+    this.metricCache = new MetricCache(metricRegistry);
     this.metricName = metricName;
     this.metricSuppliers = metricSuppliers;
   }
 
   protected Timer.Context createTimer(RequestTemplate template) {
-    return metricRegistry
-        .timer(
-            metricName
-                .metricName(template.methodMetadata(), template.feignTarget())
-                .tagged("uri", template.methodMetadata().template().path()),
-            metricSuppliers.timers())
+    return metricCache
+        .get(
+            "timer",
+            template.methodMetadata(),
+            template.feignTarget().url(),
+            0,
+            null,
+            () ->
+                metricRegistry.timer(
+                    metricName
+                        .metricName(template.methodMetadata(), template.feignTarget())
+                        .tagged("uri", template.methodMetadata().template().path()),
+                    metricSuppliers.timers()))
         .time();
   }
 
   protected void recordSuccess(RequestTemplate template, Response response) {
-    metricRegistry
-        .counter(
-            httpResponseCode(template)
-                .tagged("http_status", String.valueOf(response.status()))
-                .tagged("status_group", response.status() / 100 + "xx")
-                .tagged("http_method", template.methodMetadata().template().method())
-                .tagged("uri", template.methodMetadata().template().path()))
+    final int status = response.status();
+    metricCache
+        .get(
+            "http_response_code",
+            template.methodMetadata(),
+            template.feignTarget().url(),
+            status,
+            null,
+            () ->
+                metricRegistry.counter(
+                    httpResponseCode(template)
+                        .tagged("http_status", String.valueOf(status))
+                        .tagged("status_group", status / 100 + "xx")
+                        .tagged("http_method", template.methodMetadata().template().method())
+                        .tagged("uri", template.methodMetadata().template().path())))
         .inc();
   }
 
   protected void recordFailure(RequestTemplate template, FeignException e) {
-    metricRegistry
-        .counter(
-            httpResponseCode(template)
-                .tagged("exception_name", e.getClass().getSimpleName())
-                .tagged(
-                    "root_cause_name", ExceptionUtils.getRootCause(e).getClass().getSimpleName())
-                .tagged("http_status", String.valueOf(e.status()))
-                .tagged("status_group", e.status() / 100 + "xx")
-                .tagged("http_method", template.methodMetadata().template().method())
-                .tagged("uri", template.methodMetadata().template().path()))
+    metricCache
+        .get(
+            "http_response_code",
+            template.methodMetadata(),
+            template.feignTarget().url(),
+            e.status(),
+            e,
+            () ->
+                metricRegistry.counter(
+                    httpResponseCode(template)
+                        .tagged("exception_name", e.getClass().getSimpleName())
+                        .tagged(
+                            "root_cause_name",
+                            ExceptionUtils.getRootCause(e).getClass().getSimpleName())
+                        .tagged("http_status", String.valueOf(e.status()))
+                        .tagged("status_group", e.status() / 100 + "xx")
+                        .tagged("http_method", template.methodMetadata().template().method())
+                        .tagged("uri", template.methodMetadata().template().path())))
         .inc();
   }
 
   protected void recordFailure(RequestTemplate template, Exception e) {
-    metricRegistry
-        .counter(
-            httpResponseCode(template)
-                .tagged("exception_name", e.getClass().getSimpleName())
-                .tagged(
-                    "root_cause_name", ExceptionUtils.getRootCause(e).getClass().getSimpleName())
-                .tagged("uri", template.methodMetadata().template().path()))
+    metricCache
+        .get(
+            "http_response_code_exception",
+            template.methodMetadata(),
+            template.feignTarget().url(),
+            0,
+            e,
+            () ->
+                metricRegistry.counter(
+                    httpResponseCode(template)
+                        .tagged("exception_name", e.getClass().getSimpleName())
+                        .tagged(
+                            "root_cause_name",
+                            ExceptionUtils.getRootCause(e).getClass().getSimpleName())
+                        .tagged("uri", template.methodMetadata().template().path())))
         .inc();
   }
 
@@ -20,17 +20,15 @@ import static feign.Util.UTF_8;
 import feign.Response.Body;
 import java.io.*;
 import java.nio.charset.Charset;
-import java.util.function.Supplier;
 
 /** {@link Body} implementation that keeps track of how many bytes are read. */
 public final class MeteredBody implements Body {
 
   private final Body delegate;
-  private Supplier<Long> count;
+  private CountingInputStream input;
 
   public MeteredBody(Body body) {
     this.delegate = body;
-    count = () -> 0L;
   }
 
   @Override
@@ -51,8 +49,7 @@ public final class MeteredBody implements Body {
   @Override
   public InputStream asInputStream() throws IOException {
     // TODO, ideally, would like not to bring guava just for this
-    final CountingInputStream input = new CountingInputStream(delegate.asInputStream());
-    count = input::getCount;
+    input = new CountingInputStream(delegate.asInputStream());
     return input;
   }
 
@@ -62,7 +59,7 @@ public final class MeteredBody implements Body {
   }
 
   public long count() {
-    return count.get();
+    return input != null ? input.getCount() : 0L;
   }
 
   @Override
@@ -33,11 +33,13 @@ public class MeteredDecoder implements Decoder {
   private final MetricRegistry metricRegistry;
   private final MetricSuppliers metricSuppliers;
   private final FeignMetricName metricName;
+  private final MetricCache metricCache;
 
   public MeteredDecoder(
       Decoder decoder, MetricRegistry metricRegistry, MetricSuppliers metricSuppliers) {
     this.decoder = decoder;
     this.metricRegistry = metricRegistry;
+    this.metricCache = new MetricCache(metricRegistry);
     this.metricSuppliers = metricSuppliers;
     this.metricName = new FeignMetricName(Decoder.class);
   }
@@ -46,56 +48,80 @@ public class MeteredDecoder implements Decoder {
   public Object decode(Response response, Type type)
       throws IOException, DecodeException, FeignException {
     final RequestTemplate template = response.request().requestTemplate();
-    final MeteredBody body = response.body() == null ? null : new MeteredBody(response.body());
+    final MeteredBody body =
+        response.body() == null || !metricSuppliers.meterBodySizes()
+            ? null
+            : new MeteredBody(response.body());
 
-    response = response.toBuilder().body(body).build();
+    if (body != null) {
+      response = response.toBuilder().body(body).build();
+    }
 
     final Object decoded;
     try (final Context classTimer =
-        metricRegistry
-            .timer(
-                metricName
-                    .metricName(template.methodMetadata(), template.feignTarget())
-                    .tagged("uri", template.methodMetadata().template().path()),
-                metricSuppliers.timers())
+        metricCache
+            .get(
+                "timer",
+                template.methodMetadata(),
+                template.feignTarget().url(),
+                0,
+                null,
+                () ->
+                    metricRegistry.timer(
+                        metricName
+                            .metricName(template.methodMetadata(), template.feignTarget())
+                            .tagged("uri", template.methodMetadata().template().path()),
+                        metricSuppliers.timers()))
             .time()) {
       decoded = decoder.decode(response, type);
     } catch (IOException | RuntimeException e) {
-      metricRegistry
-          .meter(
-              metricName
-                  .metricName(template.methodMetadata(), template.feignTarget(), "error_count")
-                  .tagged("exception_name", e.getClass().getSimpleName())
-                  .tagged(
-                      "root_cause_name", ExceptionUtils.getRootCause(e).getClass().getSimpleName())
-                  .tagged("uri", template.methodMetadata().template().path()),
-              metricSuppliers.meters())
-          .mark();
+      markError(template, e);
       throw e;
     } catch (Exception e) {
-      metricRegistry
-          .meter(
-              metricName
-                  .metricName(template.methodMetadata(), template.feignTarget(), "error_count")
-                  .tagged("exception_name", e.getClass().getSimpleName())
-                  .tagged(
-                      "root_cause_name", ExceptionUtils.getRootCause(e).getClass().getSimpleName())
-                  .tagged("uri", template.methodMetadata().template().path()),
-              metricSuppliers.meters())
-          .mark();
+      markError(template, e);
       throw new IOException(e);
     }
 
     if (body != null) {
-      metricRegistry
-          .histogram(
-              metricName
-                  .metricName(template.methodMetadata(), template.feignTarget(), "response_size")
-                  .tagged("uri", template.methodMetadata().template().path()),
-              metricSuppliers.histograms())
+      metricCache
+          .get(
+              "response_size",
+              template.methodMetadata(),
+              template.feignTarget().url(),
+              0,
+              null,
+              () ->
+                  metricRegistry.histogram(
+                      metricName
+                          .metricName(
+                              template.methodMetadata(), template.feignTarget(), "response_size")
+                          .tagged("uri", template.methodMetadata().template().path()),
+                      metricSuppliers.histograms()))
           .update(body.count());
     }
 
     return decoded;
   }
+
+  private void markError(RequestTemplate template, Exception e) {
+    metricCache
+        .get(
+            "error_count",
+            template.methodMetadata(),
+            template.feignTarget().url(),
+            0,
+            e,
+            () ->
+                metricRegistry.meter(
+                    metricName
+                        .metricName(
+                            template.methodMetadata(), template.feignTarget(), "error_count")
+                        .tagged("exception_name", e.getClass().getSimpleName())
+                        .tagged(
+                            "root_cause_name",
+                            ExceptionUtils.getRootCause(e).getClass().getSimpleName())
+                        .tagged("uri", template.methodMetadata().template().path()),
+                    metricSuppliers.meters()))
+        .mark();
+  }
 }
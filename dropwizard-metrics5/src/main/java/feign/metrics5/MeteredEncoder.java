@@ -29,11 +29,13 @@ public class MeteredEncoder implements Encoder {
   private final MetricRegistry metricRegistry;
   private final MetricSuppliers metricSuppliers;
   private final FeignMetricName metricName;
+  private final MetricCache metricCache;
 
   public MeteredEncoder(
       Encoder encoder, MetricRegistry metricRegistry, MetricSuppliers metricSuppliers) {
     this.encoder = encoder;
     this.metricRegistry = metricRegistry;
+    this.metricCache = new MetricCache(metricRegistry);
     this.metricSuppliers = metricSuppliers;
     this.metricName = new FeignMetricName(Encoder.class);
   }
@@ -42,20 +44,34 @@ public class MeteredEncoder implements Encoder {
   public void encode(Object object, Type bodyType, RequestTemplate template)
       throws EncodeException {
     try (final Context classTimer =
-        metricRegistry
-            .timer(
-                metricName.metricName(template.methodMetadata(), template.feignTarget()),
-                metricSuppliers.timers())
+        metricCache
+            .get(
+                "timer",
+                template.methodMetadata(),
+                template.feignTarget().url(),
+                0,
+                null,
+                () ->
+                    metricRegistry.timer(
+                        metricName.metricName(template.methodMetadata(), template.feignTarget()),
+                        metricSuppliers.timers()))
             .time()) {
       encoder.encode(object, bodyType, template);
     }
 
-    if (template.body() != null) {
-      metricRegistry
-          .histogram(
-              metricName.metricName(
-                  template.methodMetadata(), template.feignTarget(), "request_size"),
-              metricSuppliers.histograms())
+    if (template.body() != null && metricSuppliers.meterBodySizes()) {
+      metricCache
+          .get(
+              "request_size",
+              template.methodMetadata(),
+              template.feignTarget().url(),
+              0,
+              null,
+              () ->
+                  metricRegistry.histogram(
+                      metricName.metricName(
+                          template.methodMetadata(), template.feignTarget(), "request_size"),
+                      metricSuppliers.histograms()))
           .update(template.body().length);
     }
   }
@@ -47,12 +47,15 @@ public class MeteredInvocationHandleFactory implements InvocationHandlerFactory
 
   private final MetricSuppliers metricSuppliers;
 
+  private final MetricCache metricCache;
+
   public MeteredInvocationHandleFactory(
       InvocationHandlerFactory invocationHandler,
       MetricRegistry metricRegistry,
       MetricSuppliers metricSuppliers) {
     this.invocationHandler = invocationHandler;
     this.metricRegistry = metricRegistry;
+    this.metricCache = new MetricCache(metricRegistry);
     this.metricSuppliers = metricSuppliers;
     this.metricName = new FeignMetricName(Feign.class);
   }
@@ -69,36 +72,57 @@ public class MeteredInvocationHandleFactory implements InvocationHandlerFactory
       }
 
       try (final Context classTimer =
-          metricRegistry
-              .timer(
-                  metricName.metricName(clientClass, method, target.url()),
-                  metricSuppliers.timers())
+          metricCache
+              .get(
+                  "timer",
+                  method,
+                  target.url(),
+                  0,
+                  null,
+                  () ->
+                      metricRegistry.timer(
+                          metricName.metricName(clientClass, method, target.url()),
+                          metricSuppliers.timers()))
               .time()) {
 
         return invocationHandle.invoke(proxy, method, args);
       } catch (final FeignException e) {
-        metricRegistry
-            .meter(
-                metricName
-                    .metricName(clientClass, method, target.url())
-                    .resolve("http_error")
-                    .tagged("http_status", String.valueOf(e.status()))
-                    .tagged("error_group", e.status() / 100 + "xx"),
-                metricSuppliers.meters())
+        metricCache
+            .get(
+                "http_error",
+                method,
+                target.url(),
+                e.status(),
+                e,
+                () ->
+                    metricRegistry.meter(
+                        metricName
+                            .metricName(clientClass, method, target.url())
+                            .resolve("http_error")
+                            .tagged("http_status", String.valueOf(e.status()))
+                            .tagged("error_group", e.status() / 100 + "xx"),
+                        metricSuppliers.meters()))
             .mark();
 
         throw e;
       } catch (final Throwable e) {
-        metricRegistry
-            .meter(
-                metricName
-                    .metricName(clientClass, method, target.url())
-                    .resolve("exception")
-                    .tagged("exception_name", e.getClass().getSimpleName())
-                    .tagged(
-                        "root_cause_name",
-                        ExceptionUtils.getRootCause(e).getClass().getSimpleName()),
-                metricSuppliers.meters())
+        metricCache
+            .get(
+                "exception",
+                method,
+                target.url(),
+                0,
+                e,
+                () ->
+                    metricRegistry.meter(
+                        metricName
+                            .metricName(clientClass, method, target.url())
+                            .resolve("exception")
+                            .tagged("exception_name", e.getClass().getSimpleName())
+                            .tagged(
+                                "root_cause_name",
+                                ExceptionUtils.getRootCause(e).getClass().getSimpleName()),
+                        metricSuppliers.meters()))
             .mark();
 
         throw e;
@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2012 The Feign Authors (feign@commonhaus.dev)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package feign.metrics5;
+
+import feign.utils.ExceptionUtils;
+import io.dropwizard.metrics5.Metric;
+import io.dropwizard.metrics5.MetricName;
+import io.dropwizard.metrics5.MetricRegistry;
+import io.dropwizard.metrics5.MetricRegistryListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps metrics once resolved, so recording skips building their names and looking them up in the
+ * {@link MetricRegistry}. Metrics are keyed by everything their names derive from: the method, the
+ * target url, the status and the classes of the exception and its root cause.
+ *
+ * <p>Metrics removed from the registry, including by {@link MetricRegistry#removeMatching}, are
+ * evicted, so the next call registers them again rather than updating metrics nobody reports.
+ */
+final class MetricCache {
+
+  /** Stops caching once reached, in case target urls vary per request. */
+  private static final int MAX_METRICS = 10_000;
+
+  /**
+   * Caches by registry, notified by a single listener per registry, as components have no lifecycle
+   * to remove their own. Both are weakly referenced, so neither caches nor registries are retained.
+   */
+  private static final Map<MetricRegistry, Set<MetricCache>> CACHES = new WeakHashMap<>();
+
+  private final ConcurrentMap<Key, Metric> metrics = new ConcurrentHashMap<>();
+
+  MetricCache(MetricRegistry metricRegistry) {
+    synchronized (CACHES) {
+      Set<MetricCache> caches = CACHES.get(metricRegistry);
+      if (caches == null) {
+        caches = Collections.newSetFromMap(new WeakHashMap<>());
+        metricRegistry.addListener(new EvictingListener(metricRegistry, caches));
+        CACHES.put(metricRegistry, caches);
+      }
+      caches.add(this);
+    }
+  }
+
+  /**
+   * Returns the cached metric for these inputs, resolving it with {@code resolver} when missing.
+   *
+   * @param name distinguishing metrics resolved from the same inputs.
+   * @param method the {@link feign.MethodMetadata} or {@link java.lang.reflect.Method} metered.
+   */
+  @SuppressWarnings("unchecked")
+  <M extends Metric> M get(
+      String name, Object method, String url, int status, Throwable e, Supplier<M> resolver) {
+    final Key key = new Key(name, method, url, status, e);
+    M metric = (M) metrics.get(key);
+    if (metric == null) {
+      metric = resolver.get();
+      if (metrics.size() < MAX_METRICS) {
+        metrics.putIfAbsent(key, metric);
+      }
+    }
+    return metric;
+  }
+
+  /**
+   * Evicts the cached metrics no longer registered. Listeners are told the name of a removed metric
+   * only, so the remaining metrics are compared instead.
+   */
+  private static final class EvictingListener extends MetricRegistryListener.Base {
+
+    private final MetricRegistry metricRegistry;
+    private final Set<MetricCache> caches;
+
+    EvictingListener(MetricRegistry metricRegistry, Set<MetricCache> caches) {
+      this.metricRegistry = metricRegistry;
+      this.caches = caches;
+    }
+
+    @Override
+    public void onCounterRemoved(MetricName name) {
+      evict();
+    }
+
+    @Override
+    public void onHistogramRemoved(MetricName name) {
+      evict();
+    }
+
+    @Override
+    public void onMeterRemoved(MetricName name) {
+      evict();
+    }
+
+    @Override
+    public void onTimerRemoved(MetricName name) {
+      evict();
+    }
+
+    private void evict() {
+      final List<MetricCache> snapshot;
+      synchronized (CACHES) {
+        snapshot = new ArrayList<>(caches);
+      }
+      final Set<Metric> registered = Collections.newSetFromMap(new IdentityHashMap<>());
+      registered.addAll(metricRegistry.getMetrics().values());
+      for (MetricCache cache : snapshot) {
+        cache.metrics.values().removeIf(cached -> !registered.contains(cached));
+      }
+    }
+  }
+
+  private static final class Key {
+
+    private final String name;
+    private final Object method;
+    private final String url;
+    private final int status;
+    private final Class<?> exception;
+    private final Class<?> rootCause;
+    private final int hashCode;
+
+    Key(String name, Object method, String url, int status, Throwable e) {
+      this.name = name;
+      this.method = method;
+      this.url = url;
+      this.status = status;
+      this.exception = e != null ? e.getClass() : null;
+      this.rootCause = e != null ? ExceptionUtils.getRootCause(e).getClass() : null;
+      int h = name.hashCode();
+      h = 31 * h + System.identityHashCode(method);
+      h = 31 * h + url.hashCode();
+      h = 31 * h + status;
+      this.hashCode = 31 * h + Objects.hashCode(exception);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      final Key other = (Key) obj;
+      return method == other.method
+          && status == other.status
+          && exception == other.exception
+          && rootCause == other.rootCause
+          && name.equals(other.name)
+          && url.equals(other.url);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -34,4 +34,14 @@ public class MetricSuppliers {
     // only keep timer data for 1 minute
     return () -> new Histogram(new SlidingTimeWindowArrayReservoir(1, TimeUnit.MINUTES));
   }
+
+  /**
+   * If request and response body sizes are recorded. Counting the bytes read from a response wraps
+   * its body, which costs a few allocations per decoded response.
+   *
+   * @return true unless overridden.
+   */
+  public boolean meterBodySizes() {
+    return true;
+  }
 }
@@ -15,9 +15,16 @@
  */
 package feign.metrics5;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import feign.Capability;
+import feign.Feign;
 import feign.Util;
 import feign.micrometer.AbstractMetricsTestBase;
+import feign.mock.HttpMethod;
+import feign.mock.MockClient;
+import feign.mock.MockTarget;
+import io.dropwizard.metrics5.Counting;
 import io.dropwizard.metrics5.Metered;
 import io.dropwizard.metrics5.Metric;
 import io.dropwizard.metrics5.MetricName;
@@ -25,10 +32,55 @@ import io.dropwizard.metrics5.MetricRegistry;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Map.Entry;
+import org.junit.jupiter.api.Test;
 
 public class Metrics5CapabilityTest
     extends AbstractMetricsTestBase<MetricRegistry, MetricName, Metric> {
 
+  @Test
+  void bodySizesCanBeSkipped() {
+    final MetricSuppliers withoutBodySizes =
+        new MetricSuppliers() {
+          @Override
+          public boolean meterBodySizes() {
+            return false;
+          }
+        };
+    final SimpleSource source =
+        Feign.builder()
+            .client(new MockClient().ok(HttpMethod.GET, "/get", "1234567890abcde"))
+            .addCapability(new Metrics5Capability(metricsRegistry, withoutBodySizes))
+            .target(new MockTarget<>(SimpleSource.class));
+
+    source.get("0x3456789");
+
+    assertThat(getFeignMetrics()).isNotEmpty();
+    assertThat(getFeignMetrics().keySet())
+        .noneMatch(metricId -> metricId.getKey().contains("request_size"))
+        .noneMatch(metricId -> metricId.getKey().contains("response_size"));
+  }
+
+  @Test
+  void removedMetricsAreRegisteredAgain() {
+    final SimpleSource source =
+        Feign.builder()
+            .client(
+                new MockClient(true)
+                    .ok(HttpMethod.GET, "/get", "1")
+                    .ok(HttpMethod.GET, "/get", "2"))
+            .addCapability(createMetricCapability())
+            .target(new MockTarget<>(SimpleSource.class));
+
+    source.get("a");
+    final Metric removed = getMetric("http_response_code", "http_status", "200");
+    metricsRegistry.removeMatching((name, metric) -> metric == removed);
+    source.get("b");
+
+    final Metric registered = getMetric("http_response_code", "http_status", "200");
+    assertThat(registered).isNotNull().isNotSameAs(removed);
+    assertThat(((Counting) registered).getCount()).isEqualTo(1);
+  }
+
   @Override
   protected MetricRegistry createMetricsRegistry() {
     return new MetricRegistry();
@@ -48,6 +48,7 @@ import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityTemplate;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
@@ -158,6 +159,15 @@ public final class ApacheHttp5Client implements Client {
 
     // request body
     // final Body requestBody = request.requestBody();
+    if (request.isStreaming()) {
+      HttpEntity entity =
+          new EntityTemplate(request.contentLength(), null, null, request::writeBody);
+      if (isGzip) {
+        entity = new GzipCompressingEntity(entity);
+      }
+      requestBuilder.setEntity(entity);
+      return requestBuilder.build();
+    }
     byte[] data = request.body();
     if (data != null) {
       HttpEntity entity;
@@ -21,8 +21,14 @@ import feign.*;
 import feign.Request.Options;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.GZIPOutputStream;
 import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
 import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
@@ -33,7 +39,18 @@ import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
 import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.entity.AsyncEntityProducers;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http.nio.support.classic.AbstractClassicEntityProducer;
+import org.apache.hc.core5.http.nio.support.classic.ContentInputStream;
+import org.apache.hc.core5.http.nio.support.classic.SharedInputBuffer;
+import org.apache.hc.core5.http.protocol.HttpContext;
 import org.apache.hc.core5.io.CloseMode;
 
 /**
@@ -50,7 +67,14 @@ public final class AsyncApacheHttp5Client implements AsyncClient<HttpClientConte
 
   private static final String ACCEPT_HEADER_NAME = "Accept";
 
+  /** Bytes of response body buffered per exchange in streaming mode, before reads are awaited. */
+  private static final int STREAMING_BUFFER_SIZE = 32 * 1024;
+
+  /** Marks exchanges cancelled before the client returned their future. */
+  private static final Future<?> CANCELLED = CompletableFuture.completedFuture(null);
+
   private final CloseableHttpAsyncClient client;
+  private final Executor streamingExecutor;
 
   public AsyncApacheHttp5Client() {
     this(createStartedClient());
@@ -58,6 +82,28 @@ public final class AsyncApacheHttp5Client implements AsyncClient<HttpClientConte
 
   public AsyncApacheHttp5Client(CloseableHttpAsyncClient client) {
     this.client = client;
+    this.streamingExecutor = null;
+  }
+
+  /**
+   * Creates a client streaming bodies instead of buffering them in memory. Responses complete as
+   * soon as their headers arrive and the body is read as it is received, with the connection paused
+   * while the decoder does not keep up. {@link Request#isStreaming() Streaming} request bodies are
+   * written as they are sent.
+   *
+   * <p>Response bodies are read with blocking calls, so responses are completed by the {@code
+   * executor}, never by an I/O dispatch thread. It also runs writers of streaming request bodies.
+   * An executor starting threads on demand, such as {@link
+   * feign.VirtualThreads#newThreadPerTaskExecutor()}, avoids stalling requests behind slow
+   * decoders.
+   *
+   * @param client to execute requests with, must be started.
+   * @param executor completing responses and writing streaming request bodies.
+   */
+  @Experimental
+  public AsyncApacheHttp5Client(CloseableHttpAsyncClient client, Executor executor) {
+    this.client = client;
+    this.streamingExecutor = Util.checkNotNull(executor, "executor");
   }
 
   private static CloseableHttpAsyncClient createStartedClient() {
@@ -69,6 +115,9 @@ public final class AsyncApacheHttp5Client implements AsyncClient<HttpClientConte
   @Override
   public CompletableFuture<Response> execute(
       Request request, Options options, Optional<HttpClientContext> requestContext) {
+    if (streamingExecutor != null) {
+      return executeStreaming(request, options, requestContext);
+    }
     final SimpleHttpRequest httpUriRequest = toClassicHttpRequest(request, options);
 
     final CompletableFuture<Response> result = new CompletableFuture<>();
@@ -99,6 +148,37 @@ public final class AsyncApacheHttp5Client implements AsyncClient<HttpClientConte
     return result;
   }
 
+  private CompletableFuture<Response> executeStreaming(
+      Request request, Options options, Optional<HttpClientContext> requestContext) {
+    final CompletableFuture<Response> result = new CompletableFuture<>();
+    final StreamingResponseConsumer responseConsumer =
+        new StreamingResponseConsumer(request, result);
+    final Future<Void> exchange =
+        client.execute(
+            new BasicRequestProducer(newHttpRequest(request), entityProducer(request)),
+            responseConsumer,
+            null,
+            configureTimeoutsAndRedirection(
+                options, requestContext.orElseGet(HttpClientContext::new)),
+            new FutureCallback<Void>() {
+
+              @Override
+              public void completed(Void ignored) {}
+
+              @Override
+              public void failed(Exception ex) {
+                result.completeExceptionally(ex);
+              }
+
+              @Override
+              public void cancelled() {
+                result.cancel(false);
+              }
+            });
+    responseConsumer.exchangeStarted(exchange);
+    return result;
+  }
+
   protected HttpClientContext configureTimeoutsAndRedirection(
       Request.Options options, HttpClientContext context) {
     // per request timeouts
@@ -115,12 +195,24 @@ public final class AsyncApacheHttp5Client implements AsyncClient<HttpClientConte
   }
 
   SimpleHttpRequest toClassicHttpRequest(Request request, Request.Options options) {
+    final SimpleHttpRequest httpRequest = newHttpRequest(request);
+
+    // request body
+    // final Body requestBody = request.requestBody();
+    byte[] data = requestBody(request);
+    if (data != null) {
+      httpRequest.setBody(data, getContentType(request));
+    }
+
+    return httpRequest;
+  }
+
+  private SimpleHttpRequest newHttpRequest(Request request) {
     final SimpleHttpRequest httpRequest =
         new SimpleHttpRequest(request.httpMethod().name(), request.url());
 
     // request headers
     boolean hasAcceptHeader = false;
-    boolean isGzip = false;
     for (final Map.Entry<String, Collection<String>> headerEntry : request.headers().entrySet()) {
       final String headerName = headerEntry.getKey();
       if (headerName.equalsIgnoreCase(ACCEPT_HEADER_NAME)) {
@@ -133,7 +225,6 @@ public final class AsyncApacheHttp5Client implements AsyncClient<HttpClientConte
         continue;
       }
       if (headerName.equalsIgnoreCase(Util.CONTENT_ENCODING)) {
-        isGzip = headerEntry.getValue().stream().anyMatch(Util.ENCODING_GZIP::equalsIgnoreCase);
         boolean isDeflate =
             headerEntry.getValue().stream().anyMatch(Util.ENCODING_DEFLATE::equalsIgnoreCase);
         if (isDeflate) {
@@ -151,11 +242,22 @@ public final class AsyncApacheHttp5Client implements AsyncClient<HttpClientConte
     if (!hasAcceptHeader) {
       httpRequest.addHeader(ACCEPT_HEADER_NAME, "*/*");
     }
+    return httpRequest;
+  }
 
-    // request body
-    // final Body requestBody = request.requestBody();
+  private static boolean isGzip(Request request) {
+    for (final Map.Entry<String, Collection<String>> headerEntry : request.headers().entrySet()) {
+      if (headerEntry.getKey().equalsIgnoreCase(Util.CONTENT_ENCODING)
+          && headerEntry.getValue().stream().anyMatch(Util.ENCODING_GZIP::equalsIgnoreCase)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static byte[] requestBody(Request request) {
     byte[] data = request.body();
-    if (isGzip && data != null && data.length > 0) {
+    if (isGzip(request) && data != null && data.length > 0) {
       // compress if needed
       try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
           GZIPOutputStream gzipOs = new GZIPOutputStream(baos, true)) {
@@ -165,11 +267,30 @@ public final class AsyncApacheHttp5Client implements AsyncClient<HttpClientConte
       } catch (IOException suppressed) { // NOPMD
       }
     }
-    if (data != null) {
-      httpRequest.setBody(data, getContentType(request));
+    return data;
+  }
+
+  private AsyncEntityProducer entityProducer(Request request) {
+    if (!request.isStreaming()) {
+      byte[] data = requestBody(request);
+      return data != null ? AsyncEntityProducers.create(data, getContentType(request)) : null;
     }
+    final boolean gzip = isGzip(request);
+    return new AbstractClassicEntityProducer(
+        STREAMING_BUFFER_SIZE, getContentType(request), streamingExecutor) {
 
-    return httpRequest;
+      @Override
+      protected void produceData(ContentType contentType, OutputStream outputStream)
+          throws IOException {
+        if (gzip) {
+          GZIPOutputStream gzipOs = new GZIPOutputStream(outputStream);
+          request.writeBody(gzipOs);
+          gzipOs.finish();
+        } else {
+          request.writeBody(outputStream);
+        }
+      }
+    };
   }
 
   private ContentType getContentType(Request request) {
@@ -190,6 +311,10 @@ public final class AsyncApacheHttp5Client implements AsyncClient<HttpClientConte
   }
 
   Response toFeignResponse(SimpleHttpResponse httpResponse, Request request) {
+    return responseBuilder(httpResponse, request).body(httpResponse.getBodyBytes()).build();
+  }
+
+  private static Response.Builder responseBuilder(HttpResponse httpResponse, Request request) {
     final int statusCode = httpResponse.getCode();
 
     final String reason = httpResponse.getReasonPhrase();
@@ -213,9 +338,142 @@ public final class AsyncApacheHttp5Client implements AsyncClient<HttpClientConte
         .status(statusCode)
         .reason(reason)
         .headers(headers)
-        .request(request)
-        .body(httpResponse.getBodyBytes())
-        .build();
+        .request(request);
+  }
+
+  /**
+   * Completes the response once its headers are received, exposing the body through a buffer filled
+   * as content arrives. The buffer's capacity pauses the connection until the decoder reads.
+   */
+  private final class StreamingResponseConsumer implements AsyncResponseConsumer<Void> {
+
+    private final Request request;
+    private final CompletableFuture<Response> result;
+    private final SharedInputBuffer buffer = new SharedInputBuffer(STREAMING_BUFFER_SIZE);
+
+    /**
+     * The exchange, only known once the client returns it, possibly after the response was handed
+     * to the caller. {@link #CANCELLED} records a cancellation requested before.
+     */
+    private final AtomicReference<Future<?>> exchange = new AtomicReference<>();
+
+    private volatile Exception failure;
+    private volatile FutureCallback<Void> resultCallback;
+
+    StreamingResponseConsumer(Request request, CompletableFuture<Response> result) {
+      this.request = request;
+      this.result = result;
+    }
+
+    @Override
+    public void consumeResponse(
+        HttpResponse response,
+        EntityDetails entityDetails,
+        HttpContext context,
+        FutureCallback<Void> resultCallback) {
+      final Response.Builder builder = responseBuilder(response, request);
+      if (entityDetails == null) {
+        resultCallback.completed(null);
+        builder.body(new byte[0]);
+      } else {
+        final long length = entityDetails.getContentLength();
+        builder.body(
+            new BodyInputStream(),
+            length >= 0 && length <= Integer.MAX_VALUE ? (int) length : null);
+        this.resultCallback = resultCallback;
+      }
+      final Response feignResponse = builder.build();
+      try {
+        streamingExecutor.execute(() -> result.complete(feignResponse));
+      } catch (RejectedExecutionException e) {
+        result.completeExceptionally(e);
+        cancelExchange();
+      }
+    }
+
+    void exchangeStarted(Future<Void> started) {
+      if (!exchange.compareAndSet(null, started)) {
+        // the body was closed or the hand off was rejected meanwhile
+        started.cancel(true);
+      }
+    }
+
+    /** Stops the exchange rather than receiving content nobody reads. */
+    void cancelExchange() {
+      buffer.abort();
+      final Future<?> started = exchange.getAndSet(CANCELLED);
+      if (started != null && started != CANCELLED) {
+        started.cancel(true);
+      }
+    }
+
+    @Override
+    public void informationResponse(HttpResponse response, HttpContext context) {}
+
+    @Override
+    public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+      buffer.updateCapacity(capacityChannel);
+    }
+
+    @Override
+    public void consume(ByteBuffer src) {
+      buffer.fill(src);
+    }
+
+    @Override
+    public void streamEnd(List<? extends Header> trailers) {
+      buffer.markEndStream();
+      final FutureCallback<Void> callback = resultCallback;
+      if (callback != null) {
+        callback.completed(null);
+      }
+    }
+
+    @Override
+    public void failed(Exception cause) {
+      failure = cause;
+      buffer.abort();
+    }
+
+    @Override
+    public void releaseResources() {}
+
+    /** Reads the shared buffer, reporting failures of the exchange instead of a truncated body. */
+    private final class BodyInputStream extends ContentInputStream {
+
+      BodyInputStream() {
+        super(buffer);
+      }
+
+      @Override
+      public int read() throws IOException {
+        return checkFailure(super.read());
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        return checkFailure(super.read(b, off, len));
+      }
+
+      @Override
+      public int read(byte[] b) throws IOException {
+        return read(b, 0, b.length);
+      }
+
+      @Override
+      public void close() {
+        if (!buffer.isEndStream()) {
+          cancelExchange();
+        }
+      }
+
+      private int checkFailure(int read) throws IOException {
+        if (read == -1 && failure != null) {
+          throw new IOException(failure.getMessage(), failure);
+        }
+        return read;
+      }
+    }
   }
 
   @Override
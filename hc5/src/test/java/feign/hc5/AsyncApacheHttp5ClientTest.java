@@ -71,15 +71,19 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okio.Buffer;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -905,6 +909,97 @@ public class AsyncApacheHttp5ClientTest {
     assertThat(path).contains("/redirected");
   }
 
+  @Test
+  void streamingClientDecodesLargeResponseBody() throws Throwable {
+    char[] content = new char[256 * 1024];
+    Arrays.fill(content, 'a');
+    String body = new String(content);
+    server.enqueue(new MockResponse().setBody(body));
+
+    ExecutorService executor = Executors.newCachedThreadPool();
+    try (CloseableHttpAsyncClient client = HttpAsyncClients.createDefault()) {
+      client.start();
+      final TestInterfaceAsync api =
+          new TestInterfaceAsyncBuilder()
+              .client(new AsyncApacheHttp5Client(client, executor))
+              .target("http://localhost:" + server.getPort());
+
+      assertThat(unwrap(api.post())).isEqualTo(body);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void streamingClientWritesStreamingRequestBody() throws Throwable {
+    server.enqueue(new MockResponse().setBody("foo"));
+    byte[] content = "streamed content".getBytes(Util.UTF_8);
+
+    ExecutorService executor = Executors.newCachedThreadPool();
+    try (CloseableHttpAsyncClient client = HttpAsyncClients.createDefault()) {
+      client.start();
+      final TestInterfaceAsync api =
+          new TestInterfaceAsyncBuilder()
+              .client(new AsyncApacheHttp5Client(client, executor))
+              .encoder(
+                  (object, bodyType, template) ->
+                      template.body(out -> out.write(content), -1, Util.UTF_8))
+              .target("http://localhost:" + server.getPort());
+
+      assertThat(unwrap(api.body("ignored"))).isEqualTo("foo");
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(server.takeRequest()).hasMethod("POST").hasBody(content);
+  }
+
+  @Test
+  void streamingClientWithoutResponseBody() throws Throwable {
+    server.enqueue(new MockResponse().setResponseCode(204));
+
+    ExecutorService executor = Executors.newCachedThreadPool();
+    try (CloseableHttpAsyncClient client = HttpAsyncClients.createDefault()) {
+      client.start();
+      final TestInterfaceAsync api =
+          new TestInterfaceAsyncBuilder()
+              .client(new AsyncApacheHttp5Client(client, executor))
+              .target("http://localhost:" + server.getPort());
+
+      assertThat(unwrap(api.response()).status()).isEqualTo(204);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void streamingClientFailsWhenExecutorRejectsResponse() throws Exception {
+    server.enqueue(new MockResponse().setBody("foo"));
+    final Request request =
+        Request.create(
+            HttpMethod.GET,
+            "http://localhost:" + server.getPort(),
+            Collections.emptyMap(),
+            null,
+            Util.UTF_8,
+            null);
+
+    try (CloseableHttpAsyncClient client = HttpAsyncClients.createDefault()) {
+      client.start();
+      final CompletableFuture<Response> response =
+          new AsyncApacheHttp5Client(
+                  client,
+                  task -> {
+                    throw new RejectedExecutionException("shut down");
+                  })
+              .execute(request, new Request.Options(), Optional.empty());
+
+      assertThatExceptionOfType(ExecutionException.class)
+          .isThrownBy(() -> response.get(5, SECONDS))
+          .withCauseInstanceOf(RejectedExecutionException.class);
+    }
+  }
+
   private MockResponse buildMockResponseWithLocationHeader(String redirectPath) {
     return new MockResponse()
         .setResponseCode(302)
@@ -1087,6 +1182,11 @@ public class AsyncApacheHttp5ClientTest {
                   }
                 });
 
+    TestInterfaceAsyncBuilder client(AsyncClient<HttpClientContext> client) {
+      delegate.client(client);
+      return this;
+    }
+
     TestInterfaceAsyncBuilder requestInterceptor(RequestInterceptor requestInterceptor) {
       delegate.requestInterceptor(requestInterceptor);
       return this;
@@ -18,19 +18,31 @@ package feign.jackson;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
 import feign.Response;
 import feign.Util;
 import feign.codec.Decoder;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Decodes JSON responses with Jackson. UTF-8 bodies are parsed straight from the response bytes,
+ * other charsets are decoded through a {@link Reader}. An {@link ObjectReader} is created once per
+ * target type and reused, so the {@link ObjectMapper} should be fully configured before it is
+ * passed to this decoder.
+ */
 public class JacksonDecoder implements Decoder {
 
   private final ObjectMapper mapper;
+  private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
 
   public JacksonDecoder() {
     this(Collections.<Module>emptyList());
@@ -51,18 +63,15 @@ public class JacksonDecoder implements Decoder {
   public Object decode(Response response, Type type) throws IOException {
     if (response.status() == 404 || response.status() == 204) return Util.emptyValueOf(type);
     if (response.body() == null) return null;
-    Reader reader = response.body().asReader(response.charset());
-    if (!reader.markSupported()) {
-      reader = new BufferedReader(reader, 1);
+    Integer length = response.body().length();
+    if (length != null && length == 0) {
+      return null;
     }
     try {
-      // Read the first byte to see if we have any data
-      reader.mark(1);
-      if (reader.read() == -1) {
-        return null; // Eagerly returning null avoids "No content to map due to end-of-input"
+      if (Util.UTF_8.equals(response.charset())) {
+        return decode(response.body().asInputStream(), type);
       }
-      reader.reset();
-      return mapper.readValue(reader, mapper.constructType(type));
+      return decode(response.body().asReader(response.charset()), type);
     } catch (RuntimeJsonMappingException e) {
       if (e.getCause() != null && e.getCause() instanceof IOException) {
         throw IOException.class.cast(e.getCause());
@@ -70,4 +79,32 @@ public class JacksonDecoder implements Decoder {
       throw e;
     }
   }
+
+  private Object decode(InputStream inputStream, Type type) throws IOException {
+    PushbackInputStream input = new PushbackInputStream(inputStream, 1);
+    // Read the first byte to see if we have any data
+    int first = input.read();
+    if (first == -1) {
+      return null; // Eagerly returning null avoids "No content to map due to end-of-input"
+    }
+    input.unread(first);
+    return reader(type).readValue(input);
+  }
+
+  private Object decode(Reader reader, Type type) throws IOException {
+    if (!reader.markSupported()) {
+      reader = new BufferedReader(reader, 1);
+    }
+    // Read the first byte to see if we have any data
+    reader.mark(1);
+    if (reader.read() == -1) {
+      return null; // Eagerly returning null avoids "No content to map due to end-of-input"
+    }
+    reader.reset();
+    return reader(type).readValue(reader);
+  }
+
+  private ObjectReader reader(Type type) {
+    return readers.computeIfAbsent(type, t -> mapper.readerFor(mapper.constructType(t)));
+  }
 }
@@ -16,21 +16,36 @@
 package feign.jackson;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import feign.Experimental;
 import feign.RequestTemplate;
 import feign.Util;
 import feign.codec.EncodeException;
 import feign.codec.Encoder;
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Encodes request bodies as JSON with Jackson. An {@link ObjectWriter} is created once per body
+ * type and reused, so the {@link ObjectMapper} should be fully configured before it is passed to
+ * this encoder.
+ */
 public class JacksonEncoder implements Encoder {
 
+  /** Upper bound of body types for which a writer is kept. */
+  static final int MAX_CACHED_WRITERS = 512;
+
   private final ObjectMapper mapper;
+  private final Map<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+  private final boolean streaming;
 
   public JacksonEncoder() {
     this(Collections.<Module>emptyList());
@@ -45,16 +60,65 @@ public class JacksonEncoder implements Encoder {
   }
 
   public JacksonEncoder(ObjectMapper mapper) {
+    this(mapper, false);
+  }
+
+  private JacksonEncoder(ObjectMapper mapper, boolean streaming) {
     this.mapper = mapper;
+    this.streaming = streaming;
+  }
+
+  /**
+   * Creates an encoder serializing bodies straight to the connection of clients supporting {@link
+   * feign.Request#isStreaming() streaming}, instead of into a {@code byte[]} first, so that large
+   * bodies are not held in memory. Such bodies are sent without a Content-Length, and are
+   * serialized again when the request is retried. Serialization errors are thrown as {@link
+   * EncodeException}s once the request is sent, rather than when it is encoded.
+   *
+   * @param mapper to serialize bodies with.
+   * @return a new streaming encoder.
+   */
+  @Experimental
+  public static JacksonEncoder streaming(ObjectMapper mapper) {
+    return new JacksonEncoder(mapper, true);
   }
 
   @Override
   public void encode(Object object, Type bodyType, RequestTemplate template) {
+    if (streaming) {
+      final ObjectWriter writer = writer(bodyType);
+      template.body(
+          output -> {
+            try {
+              writer.writeValue(output, object);
+            } catch (JsonProcessingException e) {
+              // not an IOException, which clients would report as a failure to send
+              throw new EncodeException(e.getMessage(), e);
+            }
+          },
+          -1,
+          Util.UTF_8);
+      return;
+    }
     try {
-      JavaType javaType = mapper.getTypeFactory().constructType(bodyType);
-      template.body(mapper.writerFor(javaType).writeValueAsBytes(object), Util.UTF_8);
-    } catch (JsonProcessingException e) {
+      template.body(writer(bodyType).writeValueAsBytes(object), Util.UTF_8);
+    } catch (IOException e) {
       throw new EncodeException(e.getMessage(), e);
     }
   }
+
+  private ObjectWriter writer(Type bodyType) {
+    ObjectWriter writer = writers.get(bodyType);
+    if (writer == null) {
+      writer = mapper.writerFor(mapper.getTypeFactory().constructType(bodyType));
+      if (streaming) {
+        // the output belongs to the client
+        writer = writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      }
+      if (writers.size() < MAX_CACHED_WRITERS) {
+        writers.putIfAbsent(bodyType, writer);
+      }
+    }
+    return writer;
+  }
 }
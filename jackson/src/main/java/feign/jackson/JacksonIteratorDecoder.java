@@ -15,7 +15,6 @@
  */
 package feign.jackson;
 
-import static feign.Util.UTF_8;
 import static feign.Util.ensureClosed;
 
 import com.fasterxml.jackson.core.JsonParser;
@@ -26,15 +25,17 @@ import feign.Response;
 import feign.Util;
 import feign.codec.DecodeException;
 import feign.codec.Decoder;
-import java.io.BufferedReader;
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.PushbackInputStream;
 import java.io.Reader;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Jackson decoder which return a closeable iterator. Returned iterator auto-close the {@code
@@ -63,6 +64,7 @@ import java.util.NoSuchElementException;
 public final class JacksonIteratorDecoder implements Decoder {
 
   private final ObjectMapper mapper;
+  private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
 
   JacksonIteratorDecoder(ObjectMapper mapper) {
     this.mapper = mapper;
@@ -72,19 +74,22 @@ public final class JacksonIteratorDecoder implements Decoder {
   public Object decode(Response response, Type type) throws IOException {
     if (response.status() == 404 || response.status() == 204) return Util.emptyValueOf(type);
     if (response.body() == null) return null;
-    Reader reader = response.body().asReader(UTF_8);
-    if (!reader.markSupported()) {
-      reader = new BufferedReader(reader, 1);
+    Integer length = response.body().length();
+    if (length != null && length == 0) {
+      return null;
     }
+    PushbackInputStream input = new PushbackInputStream(response.body().asInputStream(), 1);
     try {
       // Read the first byte to see if we have any data
-      reader.mark(1);
-      if (reader.read() == -1) {
+      int first = input.read();
+      if (first == -1) {
         return null; // Eagerly returning null avoids "No content to map due to end-of-input"
       }
-      reader.reset();
+      input.unread(first);
       return new JacksonIterator<Object>(
-          actualIteratorTypeArgument(type), mapper, response, reader);
+          response,
+          mapper.getFactory().createParser(input),
+          reader(actualIteratorTypeArgument(type)));
     } catch (RuntimeJsonMappingException e) {
       if (e.getCause() != null && e.getCause() instanceof IOException) {
         throw IOException.class.cast(e.getCause());
@@ -93,6 +98,10 @@ public final class JacksonIteratorDecoder implements Decoder {
     }
   }
 
+  private ObjectReader reader(Type type) {
+    return readers.computeIfAbsent(type, t -> mapper.readerFor(mapper.constructType(t)));
+  }
+
   private static Type actualIteratorTypeArgument(Type type) {
     if (!(type instanceof ParameterizedType)) {
       throw new IllegalArgumentException("Not supported type " + type.toString());
@@ -129,9 +138,16 @@ public final class JacksonIteratorDecoder implements Decoder {
 
     JacksonIterator(Type type, ObjectMapper mapper, Response response, Reader reader)
         throws IOException {
+      this(
+          response,
+          mapper.getFactory().createParser(reader),
+          mapper.readerFor(mapper.constructType(type)));
+    }
+
+    JacksonIterator(Response response, JsonParser parser, ObjectReader objectReader) {
       this.response = response;
-      this.parser = mapper.getFactory().createParser(reader);
-      this.objectReader = mapper.reader().forType(mapper.constructType(type));
+      this.parser = parser;
+      this.objectReader = objectReader;
     }
 
     @Override
@@ -18,12 +18,14 @@ package feign.jackson;
 import static feign.Util.UTF_8;
 import static feign.assertj.FeignAssertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -33,8 +35,12 @@ import feign.Request.HttpMethod;
 import feign.RequestTemplate;
 import feign.Response;
 import feign.Util;
+import feign.codec.EncodeException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
+import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -46,6 +52,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.Test;
 
 @SuppressWarnings("deprecation")
@@ -111,6 +118,42 @@ class JacksonCodecTest {
                 + "}");
   }
 
+  @Test
+  void streamingEncoderWritesBodiesWhenSent() throws IOException {
+    RequestTemplate template = new RequestTemplate();
+    JacksonEncoder.streaming(new ObjectMapper())
+        .encode(
+            Collections.singletonMap("foo", 1),
+            new TypeReference<Map<String, ?>>() {}.getType(),
+            template);
+
+    Request.Body body = template.requestBody();
+    assertThat(body.isStreaming()).isTrue();
+    assertThat(body.contentLength()).isEqualTo(-1);
+
+    AtomicBoolean closed = new AtomicBoolean();
+    ByteArrayOutputStream output =
+        new ByteArrayOutputStream() {
+          @Override
+          public void close() {
+            closed.set(true);
+          }
+        };
+    body.writeTo(output);
+
+    assertThat(output.toString("UTF-8")).isEqualTo("{\"foo\":1}");
+    assertThat(closed).isFalse();
+  }
+
+  @Test
+  void streamingEncoderThrowsEncodeExceptionsWhenSent() {
+    RequestTemplate template = new RequestTemplate();
+    JacksonEncoder.streaming(new ObjectMapper()).encode(new Object(), Object.class, template);
+
+    assertThatExceptionOfType(EncodeException.class)
+        .isThrownBy(() -> template.requestBody().writeTo(new ByteArrayOutputStream()));
+  }
+
   @Test
   void decodes() throws Exception {
     List<Zone> zones = new LinkedList<>();
@@ -157,6 +200,43 @@ class JacksonCodecTest {
     assertThat(new JacksonDecoder().decode(response, String.class)).isNull();
   }
 
+  @Test
+  void emptyStreamWithoutLengthDecodesToNull() throws Exception {
+    Response response =
+        Response.builder()
+            .status(200)
+            .reason("OK")
+            .request(
+                Request.create(HttpMethod.GET, "/api", Collections.emptyMap(), null, Util.UTF_8))
+            .headers(Collections.emptyMap())
+            .body(new ByteArrayInputStream(new byte[0]), null)
+            .build();
+    assertThat(new JacksonDecoder().decode(response, String.class)).isNull();
+  }
+
+  @Test
+  void decodesStreamWithoutLength() throws Exception {
+    JacksonDecoder decoder = new JacksonDecoder();
+    Type type = new TypeReference<List<Zone>>() {}.getType();
+
+    for (int i = 0; i < 2; i++) {
+      Response response =
+          Response.builder()
+              .status(200)
+              .reason("OK")
+              .request(
+                  Request.create(HttpMethod.GET, "/api", Collections.emptyMap(), null, Util.UTF_8))
+              .headers(Collections.emptyMap())
+              .body(
+                  new ByteArrayInputStream(
+                      "[{\"name\":\"denominator.io.\",\"id\":\"ÁÉÍ\"}]".getBytes(UTF_8)),
+                  null)
+              .build();
+      assertThat(decoder.decode(response, type))
+          .isEqualTo(Collections.singletonList(new Zone("denominator.io.", "ÁÉÍ")));
+    }
+  }
+
   @Test
   void customDecoder() throws Exception {
     JacksonDecoder decoder =
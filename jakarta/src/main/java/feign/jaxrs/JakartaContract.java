@@ -20,4 +20,10 @@ import feign.jaxrs3.JAXRS3Contract;
 /**
  * @deprecated use {@link JAXRS3Contract} instead
  */
-public class JakartaContract extends JAXRS3Contract {}
+public class JakartaContract extends JAXRS3Contract {
+
+  @Override
+  protected boolean isStateless() {
+    return getClass() == JakartaContract.class;
+  }
+}
@@ -24,9 +24,11 @@ import feign.Request.Options;
 import feign.Request.ProtocolVersion;
 import feign.Response;
 import feign.Util;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.ref.SoftReference;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
@@ -38,7 +40,9 @@ import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpRequest.Builder;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpTimeoutException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -52,14 +56,27 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-public class Http2Client implements Client, AsyncClient<Object> {
+public class Http2Client implements Client, AsyncClient<Object>, Closeable {
+
+  private static final int DEFAULT_MAX_CACHED_CLIENTS = 16;
+
+  /** {@code HttpClient#shutdown()}, available from Java 21. */
+  private static final Method SHUTDOWN = findShutdown();
 
   private final HttpClient client;
 
-  private final Map<Integer, SoftReference<HttpClient>> clients = new ConcurrentHashMap<>();
+  private final Map<Integer, CachedClient> clients = new ConcurrentHashMap<>();
+
+  private final int maxCachedClients;
+
+  private final LongAdder cacheHits = new LongAdder();
+
+  private final LongAdder cacheMisses = new LongAdder();
 
   /**
    * Creates the new Http2Client using following defaults:
@@ -86,7 +103,25 @@ public class Http2Client implements Client, AsyncClient<Object> {
   }
 
   public Http2Client(HttpClient client) {
+    this(client, DEFAULT_MAX_CACHED_CLIENTS);
+  }
+
+  /**
+   * Creates a client sending requests with {@code client}, unless their {@link Options} ask for a
+   * different connect timeout or redirect policy. Such requests use copies of {@code client} with
+   * these settings, of which up to {@code maxCachedClients} are kept. When more settings are in
+   * use, the least recently used copy is passed to {@link #onEviction(HttpClient)}, as are copies
+   * built concurrently for settings another request just cached a copy for.
+   *
+   * @param client used for requests matching its settings, and copied for the others.
+   * @param maxCachedClients the number of copies kept.
+   */
+  public Http2Client(HttpClient client, int maxCachedClients) {
     this.client = Util.checkNotNull(client, "HttpClient must not be null");
+    if (maxCachedClients < 1) {
+      throw new IllegalArgumentException("maxCachedClients must be positive");
+    }
+    this.maxCachedClients = maxCachedClients;
   }
 
   @Override
@@ -110,6 +145,14 @@ public class Http2Client implements Client, AsyncClient<Object> {
     return toFeignResponse(request, httpResponse);
   }
 
+  /**
+   * Sends the request asynchronously. As with the synchronous path, the read timeout of the {@code
+   * options} applies to each request rather than requiring a client per value. The returned future
+   * also fails with an {@link HttpTimeoutException} when no response arrived within the connect and
+   * read timeouts combined, so that the deadline is retried and reported like the timeouts of the
+   * synchronous path. Cancelling it, or hitting that deadline, cancels the underlying exchange,
+   * which aborts it on Java 16 and later.
+   */
   @Override
   public CompletableFuture<Response> execute(
       Request request, Options options, Optional<Object> requestContext) {
@@ -121,9 +164,50 @@ public class Http2Client implements Client, AsyncClient<Object> {
     }
 
     HttpClient clientForRequest = getOrCreateClient(options);
-    CompletableFuture<HttpResponse<InputStream>> future =
+    CompletableFuture<HttpResponse<InputStream>> exchange =
         clientForRequest.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofInputStream());
-    return future.thenApply(httpResponse -> toFeignResponse(request, httpResponse));
+    CompletableFuture<Response> result = new CompletableFuture<>();
+    exchange.whenComplete(
+        (httpResponse, error) -> {
+          if (error != null) {
+            result.completeExceptionally(error);
+            return;
+          }
+          try {
+            if (!result.complete(toFeignResponse(request, httpResponse))) {
+              // timed out or cancelled meanwhile, nobody reads this body
+              httpResponse.body().close();
+            }
+          } catch (IOException | RuntimeException e) {
+            result.completeExceptionally(e);
+          }
+        });
+    // cancellation and the deadline abort the exchange rather than leaving it running
+    result.whenComplete(
+        (response, error) -> {
+          if (error != null) {
+            exchange.cancel(true);
+          }
+        });
+    if (options.connectTimeoutMillis() > 0 && options.readTimeoutMillis() > 0) {
+      // a connection may take up to its connect timeout, then the response headers up to the
+      // read timeout applied to the request
+      final long deadlineMillis =
+          (long) options.connectTimeoutMillis() + options.readTimeoutMillis();
+      final CompletableFuture<Void> deadline =
+          new CompletableFuture<Void>().orTimeout(deadlineMillis, TimeUnit.MILLISECONDS);
+      deadline.whenComplete(
+          (ignored, error) -> {
+            if (error != null) {
+              // an IOException, as send(...) throws, rather than orTimeout's TimeoutException
+              result.completeExceptionally(
+                  new HttpTimeoutException("request timed out after " + deadlineMillis + " ms"));
+            }
+          });
+      // cancels the pending timer once the response or an error arrived
+      result.whenComplete((response, error) -> deadline.complete(null));
+    }
+    return result;
   }
 
   protected Response toFeignResponse(Request request, HttpResponse<InputStream> httpResponse) {
@@ -145,28 +229,127 @@ public class Http2Client implements Client, AsyncClient<Object> {
       // settings from options
       final int clientKey = createClientKey(options);
 
-      SoftReference<HttpClient> requestScopedSoftReference = clients.get(clientKey);
-      HttpClient requestScoped =
-          requestScopedSoftReference == null ? null : requestScopedSoftReference.get();
-
-      if (requestScoped == null) {
-        java.net.http.HttpClient.Builder builder =
-            newClientBuilder(options)
-                .sslContext(client.sslContext())
-                .sslParameters(client.sslParameters())
-                .version(client.version());
-        client.authenticator().ifPresent(builder::authenticator);
-        client.cookieHandler().ifPresent(builder::cookieHandler);
-        client.executor().ifPresent(builder::executor);
-        client.proxy().ifPresent(builder::proxy);
-        requestScoped = builder.build();
-        clients.put(clientKey, new SoftReference<>(requestScoped));
+      CachedClient cached = clients.get(clientKey);
+      if (cached != null) {
+        cacheHits.increment();
+      } else {
+        // built without holding the lock, as building starts a selector thread
+        cached = new CachedClient(newClient(options));
+        cacheMisses.increment();
+        final CachedClient built = cached;
+        final HttpClient evicted;
+        synchronized (clients) {
+          final CachedClient existing = clients.putIfAbsent(clientKey, built);
+          if (existing != null) {
+            // built concurrently by another request
+            cached = existing;
+            evicted = built.client;
+          } else {
+            evicted = evictLeastRecentlyUsed();
+          }
+        }
+        if (evicted != null) {
+          onEviction(evicted);
+        }
       }
-      return requestScoped;
+      cached.lastUsed = System.nanoTime();
+      return cached.client;
     }
     return client;
   }
 
+  private HttpClient newClient(Options options) {
+    java.net.http.HttpClient.Builder builder =
+        newClientBuilder(options)
+            .sslContext(client.sslContext())
+            .sslParameters(client.sslParameters())
+            .version(client.version());
+    client.authenticator().ifPresent(builder::authenticator);
+    client.cookieHandler().ifPresent(builder::cookieHandler);
+    client.executor().ifPresent(builder::executor);
+    client.proxy().ifPresent(builder::proxy);
+    return builder.build();
+  }
+
+  /** Removes the least recently used client once more than allowed are cached. */
+  private HttpClient evictLeastRecentlyUsed() {
+    if (clients.size() <= maxCachedClients) {
+      return null;
+    }
+    Map.Entry<Integer, CachedClient> eldest = null;
+    for (Map.Entry<Integer, CachedClient> entry : clients.entrySet()) {
+      if (eldest == null || entry.getValue().lastUsed - eldest.getValue().lastUsed < 0) {
+        eldest = entry;
+      }
+    }
+    clients.remove(eldest.getKey());
+    return eldest.getValue().client;
+  }
+
+  /**
+   * Called with a client built for a distinct {@link Options} setting, once it is no longer cached.
+   * Shuts the client down on Java 21 and later, letting requests in flight complete. Earlier
+   * versions release its resources once it is garbage collected.
+   *
+   * @param evicted client removed from the cache.
+   */
+  protected void onEviction(HttpClient evicted) {
+    if (SHUTDOWN != null) {
+      try {
+        SHUTDOWN.invoke(evicted);
+      } catch (IllegalAccessException | InvocationTargetException e) {
+        // released by garbage collection instead
+      }
+    }
+  }
+
+  /**
+   * @return the number of requests which used a cached client built for their {@link Options}.
+   */
+  public long cacheHits() {
+    return cacheHits.sum();
+  }
+
+  /**
+   * @return the number of clients built for the {@link Options} of a request.
+   */
+  public long cacheMisses() {
+    return cacheMisses.sum();
+  }
+
+  /**
+   * Evicts the clients built for distinct {@link Options} settings. The client used for requests
+   * matching its own settings stays open.
+   */
+  @Override
+  public void close() {
+    final List<CachedClient> evicted;
+    synchronized (clients) {
+      evicted = new ArrayList<>(clients.values());
+      clients.clear();
+    }
+    evicted.forEach(cached -> onEviction(cached.client));
+  }
+
+  /** A client built for distinct {@link Options} settings, with the time it was last used. */
+  private static final class CachedClient {
+
+    private final HttpClient client;
+    private volatile long lastUsed = System.nanoTime();
+
+    CachedClient(HttpClient client) {
+      this.client = client;
+    }
+  }
+
+  private static Method findShutdown() {
+    try {
+      return HttpClient.class.getMethod("shutdown");
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
   private boolean doesClientConfigurationDiffer(Options options) {
     if ((client.followRedirects() == Redirect.ALWAYS) != options.isFollowRedirects()) {
       return true;
@@ -203,11 +386,20 @@ public class Http2Client implements Client, AsyncClient<Object> {
     URI uri = new URI(request.url());
 
     final BodyPublisher body;
-    final byte[] data = request.body();
-    if (data == null) {
-      body = BodyPublishers.noBody();
+    if (request.isStreaming()) {
+      final long contentLength = request.contentLength();
+      final StreamingBodyPublisher publisher = new StreamingBodyPublisher(request);
+      body =
+          contentLength > 0
+              ? BodyPublishers.fromPublisher(publisher, contentLength)
+              : BodyPublishers.fromPublisher(publisher);
     } else {
-      body = BodyPublishers.ofByteArray(data);
+      final byte[] data = request.body();
+      if (data == null) {
+        body = BodyPublishers.noBody();
+      } else {
+        body = BodyPublishers.ofByteArray(data);
+      }
     }
 
     final Builder requestBuilder =
@@ -0,0 +1,174 @@
+/*
+ * Copyright © 2012 The Feign Authors (feign@commonhaus.dev)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package feign.http2client;
+
+import feign.Request;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+
+/**
+ * Publishes a {@link Request#isStreaming() streaming} request body in chunks, as its {@link
+ * Request.Body.Writer} writes it, rather than buffering it in memory first. The writer blocks while
+ * the {@link java.net.http.HttpClient} asks for no more chunks, so it runs on a thread of its own,
+ * once per subscription.
+ */
+final class StreamingBodyPublisher implements Flow.Publisher<ByteBuffer> {
+
+  static final int CHUNK_SIZE = 8192;
+
+  private static class LazyInitializedExecutorService {
+
+    private static final ExecutorService instance =
+        Executors.newCachedThreadPool(
+            r -> {
+              final Thread result = new Thread(r, "feign-http2client-body");
+              result.setDaemon(true);
+              return result;
+            });
+  }
+
+  private final Request request;
+
+  StreamingBodyPublisher(Request request) {
+    this.request = request;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+    final ChunkedOutput output = new ChunkedOutput(subscriber);
+    subscriber.onSubscribe(output);
+    LazyInitializedExecutorService.instance.execute(
+        () -> {
+          try {
+            request.writeBody(output);
+            output.complete();
+          } catch (IOException | RuntimeException e) {
+            output.fail(e);
+          }
+        });
+  }
+
+  /** Hands the bytes written to the subscriber in chunks, waiting for its demand. */
+  private static final class ChunkedOutput extends OutputStream implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super ByteBuffer> subscriber;
+    private byte[] chunk = new byte[CHUNK_SIZE];
+    private int count;
+    private long demand;
+    private boolean cancelled;
+    private IllegalArgumentException invalidRequest;
+
+    ChunkedOutput(Flow.Subscriber<? super ByteBuffer> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public synchronized void request(long n) {
+      if (n <= 0) {
+        // reported by the writing thread, as signals to the subscriber must not overlap
+        invalidRequest = new IllegalArgumentException("non-positive request: " + n);
+      } else {
+        demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+      }
+      notifyAll();
+    }
+
+    @Override
+    public synchronized void cancel() {
+      cancelled = true;
+      notifyAll();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      if (count == chunk.length) {
+        publish();
+      }
+      chunk[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      while (len > 0) {
+        if (count == chunk.length) {
+          publish();
+        }
+        final int copied = Math.min(len, chunk.length - count);
+        System.arraycopy(b, off, chunk, count, copied);
+        count += copied;
+        off += copied;
+        len -= copied;
+      }
+    }
+
+    void complete() throws IOException {
+      if (count > 0) {
+        publish();
+      }
+      if (!isCancelled()) {
+        final Throwable invalid = invalidRequest();
+        if (invalid != null) {
+          subscriber.onError(invalid);
+        } else {
+          subscriber.onComplete();
+        }
+      }
+    }
+
+    void fail(Throwable e) {
+      if (!isCancelled()) {
+        final Throwable invalid = invalidRequest();
+        subscriber.onError(invalid != null ? invalid : e);
+      }
+    }
+
+    private void publish() throws IOException {
+      awaitDemand();
+      // the subscriber may keep the chunk, so the next one is a new array
+      subscriber.onNext(ByteBuffer.wrap(chunk, 0, count));
+      chunk = new byte[CHUNK_SIZE];
+      count = 0;
+    }
+
+    private synchronized void awaitDemand() throws IOException {
+      while (demand == 0 && !cancelled && invalidRequest == null) {
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("interrupted while writing the request body");
+        }
+      }
+      if (cancelled || invalidRequest != null) {
+        throw new IOException("request body cancelled");
+      }
+      demand--;
+    }
+
+    private synchronized boolean isCancelled() {
+      return cancelled;
+    }
+
+    private synchronized Throwable invalidRequest() {
+      return invalidRequest;
+    }
+  }
+}
@@ -45,6 +45,8 @@ import feign.RequestLine;
 import feign.RequestTemplate;
 import feign.Response;
 import feign.ResponseMapper;
+import feign.RetryableException;
+import feign.Retryer;
 import feign.Target;
 import feign.Target.HardCodedTarget;
 import feign.Util;
@@ -58,10 +60,25 @@ import feign.http2client.Http2Client;
 import feign.querymap.BeanQueryMapEncoder;
 import feign.querymap.FieldQueryMapEncoder;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.ServerSocket;
+import java.net.Socket;
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.PushPromiseHandler;
+import java.net.http.HttpTimeoutException;
 import java.nio.charset.StandardCharsets;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
@@ -73,12 +90,20 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okio.Buffer;
@@ -861,6 +886,352 @@ public class Http2ClientAsyncTest {
     checkCFCompletedSoon(cf);
   }
 
+  @Test
+  void reusesClientsPerOptionsAndShutsDownEvicted() throws Exception {
+    server.enqueue(new MockResponse().setBody("foo"));
+    server.enqueue(new MockResponse().setBody("foo"));
+    server.enqueue(new MockResponse().setBody("foo"));
+    final List<java.net.http.HttpClient> evicted = new ArrayList<>();
+    final Http2Client client =
+        new Http2Client(java.net.http.HttpClient.newHttpClient(), 1) {
+          @Override
+          protected void onEviction(java.net.http.HttpClient httpClient) {
+            evicted.add(httpClient);
+            super.onEviction(httpClient);
+          }
+        };
+    final Request request =
+        Request.create(
+            HttpMethod.GET,
+            "http://localhost:" + server.getPort(),
+            Collections.emptyMap(),
+            null,
+            Util.UTF_8,
+            null);
+    final Request.Options shortTimeout =
+        new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+    final Request.Options longTimeout =
+        new Request.Options(2, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+
+    client.execute(request, shortTimeout).close();
+    client.execute(request, shortTimeout).close();
+    assertThat(client.cacheMisses()).isEqualTo(1);
+    assertThat(client.cacheHits()).isEqualTo(1);
+    assertThat(evicted).isEmpty();
+
+    client.execute(request, longTimeout).close();
+    assertThat(client.cacheMisses()).isEqualTo(2);
+    assertThat(evicted).hasSize(1);
+
+    client.close();
+    assertThat(evicted).hasSize(2);
+  }
+
+  @Test
+  void streamsBodiesAsTheyAreWritten() throws Exception {
+    server.enqueue(new MockResponse().setBody("foo"));
+    server.enqueue(new MockResponse().setBody("foo"));
+    // several chunks
+    final byte[] content = new byte[100_000];
+    Arrays.fill(content, (byte) 'a');
+    final List<String> threads = new CopyOnWriteArrayList<>();
+    final Request.Body.Writer writer =
+        output -> {
+          threads.add(Thread.currentThread().getName());
+          output.write(content);
+        };
+
+    final Http2Client client = new Http2Client();
+    for (long contentLength : new long[] {content.length, -1}) {
+      final Request request =
+          Request.create(
+              HttpMethod.POST,
+              "http://localhost:" + server.getPort(),
+              Collections.emptyMap(),
+              Request.Body.create(writer, contentLength, null),
+              null);
+
+      client
+          .execute(
+              request,
+              new Request.Options(1, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, true),
+              Optional.empty())
+          .get(5, TimeUnit.SECONDS)
+          .close();
+
+      assertThat(request.isStreaming()).isTrue();
+      assertThat(server.takeRequest().getBody().readByteArray()).isEqualTo(content);
+    }
+    assertThat(threads).containsOnly("feign-http2client-body").hasSize(2);
+  }
+
+  @Test
+  void keepsOneClientForOptionsRequestedConcurrently() throws Exception {
+    final int requests = 8;
+    for (int i = 0; i < requests; i++) {
+      server.enqueue(new MockResponse().setBody("foo"));
+    }
+    final List<java.net.http.HttpClient> evicted = new CopyOnWriteArrayList<>();
+    final Http2Client client =
+        new Http2Client(java.net.http.HttpClient.newHttpClient()) {
+          @Override
+          protected void onEviction(java.net.http.HttpClient httpClient) {
+            evicted.add(httpClient);
+            super.onEviction(httpClient);
+          }
+        };
+    final Request request =
+        Request.create(
+            HttpMethod.GET,
+            "http://localhost:" + server.getPort(),
+            Collections.emptyMap(),
+            null,
+            Util.UTF_8,
+            null);
+    final Request.Options options =
+        new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(requests);
+    try {
+      final CountDownLatch start = new CountDownLatch(1);
+      final List<Future<?>> responses = new ArrayList<>();
+      for (int i = 0; i < requests; i++) {
+        responses.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  client.execute(request, options).close();
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (Future<?> response : responses) {
+        response.get(5, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    // clients built concurrently for the same options are shut down, but one
+    assertThat(client.cacheHits() + client.cacheMisses()).isEqualTo(requests);
+    assertThat(evicted).hasSize((int) client.cacheMisses() - 1);
+
+    client.close();
+    assertThat(evicted).hasSize((int) client.cacheMisses());
+  }
+
+  @Test
+  void asyncRequestFailsAfterItsReadTimeout() {
+    server.enqueue(new MockResponse().setBody("foo").setHeadersDelay(2, TimeUnit.SECONDS));
+    final Request request =
+        Request.create(
+            HttpMethod.GET,
+            "http://localhost:" + server.getPort(),
+            Collections.emptyMap(),
+            null,
+            Util.UTF_8,
+            null);
+
+    CompletableFuture<Response> response =
+        new Http2Client()
+            .execute(
+                request,
+                new Request.Options(1, TimeUnit.SECONDS, 100, TimeUnit.MILLISECONDS, true),
+                Optional.empty());
+
+    assertThatExceptionOfType(ExecutionException.class)
+        .isThrownBy(() -> response.get(5, TimeUnit.SECONDS))
+        .withCauseInstanceOf(IOException.class);
+  }
+
+  @Test
+  void asyncRequestFailsAfterConnectAndReadTimeoutsCombined() {
+    // the HttpClient enforces the read timeout itself, so use one whose exchange never completes
+    final PendingHttpClient httpClient = new PendingHttpClient(Duration.ofMillis(100));
+    final Request request =
+        Request.create(
+            HttpMethod.GET,
+            "http://localhost:" + server.getPort(),
+            Collections.emptyMap(),
+            null,
+            Util.UTF_8,
+            null);
+
+    CompletableFuture<Response> response =
+        new Http2Client(httpClient)
+            .execute(
+                request,
+                new Request.Options(100, TimeUnit.MILLISECONDS, 200, TimeUnit.MILLISECONDS, true),
+                Optional.empty());
+
+    assertThatExceptionOfType(ExecutionException.class)
+        .isThrownBy(() -> response.get(5, TimeUnit.SECONDS))
+        .withCauseInstanceOf(HttpTimeoutException.class);
+    assertThat(httpClient.exchange.isCancelled()).isTrue();
+  }
+
+  @Test
+  void asyncDeadlineIsRetriedAndWrappedLikeOtherIOExceptions() {
+    final PendingHttpClient httpClient = new PendingHttpClient(Duration.ofMillis(100));
+    final TestInterfaceAsync api =
+        AsyncFeign.builder()
+            .client(new Http2Client(httpClient))
+            .options(
+                new Request.Options(100, TimeUnit.MILLISECONDS, 100, TimeUnit.MILLISECONDS, true))
+            .retryer(new Retryer.Default(1, 1, 2))
+            .target(TestInterfaceAsync.class, "http://localhost:" + server.getPort());
+
+    assertThatExceptionOfType(ExecutionException.class)
+        .isThrownBy(() -> api.response().get(5, TimeUnit.SECONDS))
+        .withCauseInstanceOf(RetryableException.class)
+        .havingCause()
+        .withCauseInstanceOf(HttpTimeoutException.class);
+    assertThat(httpClient.sends).hasValue(2);
+  }
+
+  @Test
+  void cancellingAsyncRequestCancelsTheExchange() {
+    final PendingHttpClient httpClient = new PendingHttpClient(Duration.ofSeconds(1));
+    final Request request =
+        Request.create(
+            HttpMethod.GET,
+            "http://localhost:" + server.getPort(),
+            Collections.emptyMap(),
+            null,
+            Util.UTF_8,
+            null);
+
+    new Http2Client(httpClient)
+        .execute(
+            request,
+            new Request.Options(1, TimeUnit.SECONDS, 10, TimeUnit.SECONDS, true),
+            Optional.empty())
+        .cancel(true);
+
+    assertThat(httpClient.exchange.isCancelled()).isTrue();
+  }
+
+  @Test
+  void cancellingAsyncRequestAbortsTheExchange() throws Exception {
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+      serverSocket.setSoTimeout(5000);
+      final Request request =
+          Request.create(
+              HttpMethod.GET,
+              "http://localhost:" + serverSocket.getLocalPort(),
+              Collections.emptyMap(),
+              null,
+              Util.UTF_8,
+              null);
+
+      CompletableFuture<Response> response =
+          new Http2Client()
+              .execute(
+                  request,
+                  new Request.Options(1, TimeUnit.SECONDS, 10, TimeUnit.SECONDS, true),
+                  Optional.empty());
+
+      try (Socket socket = serverSocket.accept()) {
+        socket.setSoTimeout(5000);
+        final InputStream in = socket.getInputStream();
+        // wait for the request, never answering it
+        assertThat(in.read()).isNotEqualTo(-1);
+
+        response.cancel(true);
+
+        // the client closes the connection, rather than waiting for the response
+        final byte[] buffer = new byte[1024];
+        int read;
+        do {
+          read = in.read(buffer);
+        } while (read != -1);
+      }
+    }
+  }
+
+  /** Never completes the exchanges it is asked to send. */
+  private static final class PendingHttpClient extends HttpClient {
+
+    private final HttpClient delegate;
+    private final AtomicInteger sends = new AtomicInteger();
+    private CompletableFuture<?> exchange;
+
+    PendingHttpClient(Duration connectTimeout) {
+      this.delegate =
+          HttpClient.newBuilder()
+              .followRedirects(Redirect.ALWAYS)
+              .connectTimeout(connectTimeout)
+              .build();
+    }
+
+    @Override
+    public Optional<CookieHandler> cookieHandler() {
+      return delegate.cookieHandler();
+    }
+
+    @Override
+    public Optional<Duration> connectTimeout() {
+      return delegate.connectTimeout();
+    }
+
+    @Override
+    public Redirect followRedirects() {
+      return delegate.followRedirects();
+    }
+
+    @Override
+    public Optional<ProxySelector> proxy() {
+      return delegate.proxy();
+    }
+
+    @Override
+    public SSLContext sslContext() {
+      return delegate.sslContext();
+    }
+
+    @Override
+    public SSLParameters sslParameters() {
+      return delegate.sslParameters();
+    }
+
+    @Override
+    public Optional<Authenticator> authenticator() {
+      return delegate.authenticator();
+    }
+
+    @Override
+    public Version version() {
+      return delegate.version();
+    }
+
+    @Override
+    public Optional<Executor> executor() {
+      return delegate.executor();
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, BodyHandler<T> responseBodyHandler) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+        HttpRequest request, BodyHandler<T> responseBodyHandler) {
+      final CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+      sends.incrementAndGet();
+      exchange = result;
+      return result;
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+        HttpRequest request,
+        BodyHandler<T> responseBodyHandler,
+        PushPromiseHandler<T> pushPromiseHandler) {
+      return sendAsync(request, responseBodyHandler);
+    }
+  }
+
   public interface TestInterfaceAsync {
 
     @RequestLine("POST /")
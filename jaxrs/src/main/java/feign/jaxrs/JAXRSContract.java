@@ -44,6 +44,11 @@ public class JAXRSContract extends DeclarativeContract {
     return super.parseAndValidateMetadata(targetType, method);
   }
 
+  @Override
+  protected boolean isStateless() {
+    return getClass() == JAXRSContract.class;
+  }
+
   public JAXRSContract() {
     super.registerClassAnnotation(
         Path.class,
@@ -34,6 +34,11 @@ import javax.ws.rs.core.Context;
  */
 public class JAXRS2Contract extends JAXRSContract {
 
+  @Override
+  protected boolean isStateless() {
+    return getClass() == JAXRS2Contract.class;
+  }
+
   public JAXRS2Contract() {
     // parameter with unsupported jax-rs annotations should not be passed as body params.
     // this will prevent interfaces from becoming unusable entirely due to single (unsupported)
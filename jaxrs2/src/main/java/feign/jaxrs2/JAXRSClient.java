@@ -17,12 +17,17 @@ package feign.jaxrs2;
 
 import feign.Client;
 import feign.Request.Options;
+import java.io.Closeable;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.ws.rs.client.ClientBuilder;
@@ -42,34 +47,85 @@ import javax.ws.rs.core.Variant;
  *     Feign.builder().client(new JaxRSClient()).target(GitHub.class, "https://api.github.com");
  * </pre>
  */
-public class JAXRSClient implements Client {
+public class JAXRSClient implements Client, Closeable {
+
+  /** Jersey's property for following redirects, ignored by other JAX-RS implementations. */
+  private static final String FOLLOW_REDIRECTS = "jersey.config.client.followRedirects";
+
+  private static final int DEFAULT_MAX_CLIENTS = 16;
 
   private final ClientBuilder clientBuilder;
+  private final int maxClients;
+  private final ConcurrentMap<ClientKey, javax.ws.rs.client.Client> clients =
+      new ConcurrentHashMap<>();
 
   public JAXRSClient() {
     this(ClientBuilder.newBuilder());
   }
 
+  /**
+   * Creates a client building its JAX-RS clients with {@code clientBuilder}.
+   *
+   * @param clientBuilder used to build the JAX-RS clients. Its timeouts and redirect property are
+   *     set for each client built, so it must not be shared with other code.
+   */
   public JAXRSClient(ClientBuilder clientBuilder) {
+    this(clientBuilder, DEFAULT_MAX_CLIENTS);
+  }
+
+  /**
+   * Creates a client keeping up to {@code maxClients} JAX-RS clients, one per distinct timeout and
+   * redirect settings. Requests with other settings use a new JAX-RS client, closed along with the
+   * response body.
+   *
+   * @param clientBuilder used to build the JAX-RS clients. Its timeouts and redirect property are
+   *     set for each client built, so it must not be shared with other code.
+   * @param maxClients the number of JAX-RS clients kept open.
+   */
+  public JAXRSClient(ClientBuilder clientBuilder, int maxClients) {
+    if (maxClients < 1) {
+      throw new IllegalArgumentException("maxClients must be positive");
+    }
     this.clientBuilder = clientBuilder;
+    this.maxClients = maxClients;
   }
 
   @Override
   public feign.Response execute(feign.Request request, Options options) throws IOException {
-    final Response response =
-        clientBuilder
-            .connectTimeout(options.connectTimeoutMillis(), TimeUnit.MILLISECONDS)
-            .readTimeout(options.readTimeoutMillis(), TimeUnit.MILLISECONDS)
-            .build()
-            .target(request.url())
-            .request()
-            .headers(toMultivaluedMap(request.headers()))
-            .method(request.httpMethod().name(), createRequestEntity(request));
+    final ClientKey key =
+        new ClientKey(
+            options.connectTimeoutMillis(),
+            options.readTimeoutMillis(),
+            options.isFollowRedirects());
+    javax.ws.rs.client.Client client = clients.get(key);
+    if (client == null) {
+      client = cachedClient(key);
+    }
+    final boolean cached = client != null;
+    if (!cached) {
+      client = build(key);
+    }
+
+    final Response response;
+    try {
+      response =
+          client
+              .target(request.url())
+              .request()
+              .headers(toMultivaluedMap(request.headers()))
+              .method(request.httpMethod().name(), createRequestEntity(request));
+    } catch (RuntimeException e) {
+      if (!cached) {
+        client.close();
+      }
+      throw e;
+    }
 
+    final InputStream body = response.readEntity(InputStream.class);
     return feign.Response.builder()
         .request(request)
         .body(
-            response.readEntity(InputStream.class),
+            cached ? body : new ClientClosingInputStream(body, client),
             integerHeader(response, HttpHeaders.CONTENT_LENGTH))
         .headers(toMap(response.getStringHeaders()))
         .status(response.getStatus())
@@ -77,6 +133,45 @@ public class JAXRSClient implements Client {
         .build();
   }
 
+  /**
+   * Returns the shared JAX-RS client for these settings, building it on first use, or null once
+   * {@code maxClients} are kept. Clients own connection pools and SSL contexts, so they are shared
+   * by all requests with the same settings.
+   */
+  private javax.ws.rs.client.Client cachedClient(ClientKey key) {
+    synchronized (clients) {
+      javax.ws.rs.client.Client client = clients.get(key);
+      if (client == null && clients.size() < maxClients) {
+        client = build(key);
+        clients.put(key, client);
+      }
+      return client;
+    }
+  }
+
+  private javax.ws.rs.client.Client build(ClientKey key) {
+    // ClientBuilder is mutable and not thread safe
+    synchronized (clientBuilder) {
+      return clientBuilder
+          .connectTimeout(key.connectTimeoutMillis, TimeUnit.MILLISECONDS)
+          .readTimeout(key.readTimeoutMillis, TimeUnit.MILLISECONDS)
+          .property(FOLLOW_REDIRECTS, key.followRedirects)
+          .build();
+    }
+  }
+
+  /**
+   * Closes the JAX-RS clients kept so far, failing responses they are still streaming. Later
+   * requests build new ones.
+   */
+  @Override
+  public void close() {
+    synchronized (clients) {
+      clients.values().forEach(javax.ws.rs.client.Client::close);
+      clients.clear();
+    }
+  }
+
   private Entity<byte[]> createRequestEntity(feign.Request request) {
     if (request.body() == null) {
       return null;
@@ -131,4 +226,56 @@ public class JAXRSClient implements Client {
   private Map<String, Collection<String>> toMap(MultivaluedMap<String, String> headers) {
     return headers.entrySet().stream().collect(Collectors.toMap(Entry::getKey, Entry::getValue));
   }
+
+  private static final class ClientKey {
+
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+    private final boolean followRedirects;
+
+    ClientKey(int connectTimeoutMillis, int readTimeoutMillis, boolean followRedirects) {
+      this.connectTimeoutMillis = connectTimeoutMillis;
+      this.readTimeoutMillis = readTimeoutMillis;
+      this.followRedirects = followRedirects;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof ClientKey)) {
+        return false;
+      }
+      final ClientKey other = (ClientKey) obj;
+      return connectTimeoutMillis == other.connectTimeoutMillis
+          && readTimeoutMillis == other.readTimeoutMillis
+          && followRedirects == other.followRedirects;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(connectTimeoutMillis, readTimeoutMillis, followRedirects);
+    }
+  }
+
+  /** Closes a JAX-RS client used for a single request once its response body is closed. */
+  private static final class ClientClosingInputStream extends FilterInputStream {
+
+    private final javax.ws.rs.client.Client client;
+
+    ClientClosingInputStream(InputStream in, javax.ws.rs.client.Client client) {
+      super(in);
+      this.client = client;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        client.close();
+      }
+    }
+  }
 }
@@ -20,17 +20,25 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import feign.Feign;
 import feign.Feign.Builder;
+import feign.Request;
 import feign.Response;
 import feign.Util;
 import feign.assertj.MockWebServerAssertions;
 import feign.jaxrs.JAXRSContract;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
+import javax.ws.rs.client.ClientBuilder;
 import okhttp3.mockwebserver.MockResponse;
 import org.assertj.core.data.MapEntry;
+import org.glassfish.jersey.client.JerseyClient;
+import org.glassfish.jersey.client.JerseyClientBuilder;
 import org.junit.jupiter.api.Test;
 
 /** Tests client-specific behavior, such as ensuring Content-Length is sent when specified. */
@@ -62,6 +70,81 @@ public class JAXRSClientTest extends AbstractJAXRSClientTest {
         .hasMethod("POST");
   }
 
+  @Test
+  void reusesClientsPerOptions() throws Exception {
+    server.enqueue(new MockResponse().setBody("foo"));
+    server.enqueue(new MockResponse().setBody("foo"));
+    server.enqueue(new MockResponse().setBody("foo"));
+    final AtomicInteger builds = new AtomicInteger();
+    final ClientBuilder clientBuilder =
+        new JerseyClientBuilder() {
+          @Override
+          public JerseyClient build() {
+            builds.incrementAndGet();
+            return super.build();
+          }
+        };
+
+    try (JAXRSClient client = new JAXRSClient(clientBuilder)) {
+      final String url = "http://localhost:" + server.getPort();
+      final TestInterface api = Feign.builder().client(client).target(TestInterface.class, url);
+      final TestInterface shortTimeouts =
+          Feign.builder()
+              .client(client)
+              .options(new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true))
+              .target(TestInterface.class, url);
+
+      api.get();
+      api.get();
+      shortTimeouts.get();
+    }
+
+    assertThat(builds.get()).isEqualTo(2);
+  }
+
+  @Test
+  void doesNotCloseClientsStillStreamingWhenMoreSettingsAreUsed() throws Exception {
+    server.enqueue(new MockResponse().setBody("first"));
+    server.enqueue(new MockResponse().setBody("second"));
+    final List<JerseyClient> built = new ArrayList<>();
+    final ClientBuilder clientBuilder =
+        new JerseyClientBuilder() {
+          @Override
+          public JerseyClient build() {
+            final JerseyClient client = super.build();
+            built.add(client);
+            return client;
+          }
+        };
+
+    try (JAXRSClient client = new JAXRSClient(clientBuilder, 1)) {
+      final String url = "http://localhost:" + server.getPort();
+      final JaxRSClientTestInterfaceWithJaxRsContract api =
+          Feign.builder()
+              .client(client)
+              .contract(new JAXRSContract())
+              .target(JaxRSClientTestInterfaceWithJaxRsContract.class, url);
+      final JaxRSClientTestInterfaceWithJaxRsContract shortTimeouts =
+          Feign.builder()
+              .client(client)
+              .contract(new JAXRSContract())
+              .options(new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true))
+              .target(JaxRSClientTestInterfaceWithJaxRsContract.class, url);
+
+      try (Response first = api.consumesMultipleWithContentTypeHeaderAndBody("text/plain", "1")) {
+        try (Response second =
+            shortTimeouts.consumesMultipleWithContentTypeHeaderAndBody("text/plain", "2")) {
+          assertThat(Util.toString(second.body().asReader(UTF_8))).isEqualTo("second");
+        }
+
+        assertThat(built).hasSize(2);
+        assertThat(built.get(1).isClosed()).isTrue();
+        assertThat(built.get(0).isClosed()).isFalse();
+        assertThat(Util.toString(first.body().asReader(UTF_8))).isEqualTo("first");
+      }
+    }
+  }
+
   public interface JaxRSClientTestInterfaceWithJaxRsContract {
     @Path("/")
     @POST
@@ -17,4 +17,10 @@ package feign.jaxrs3;
 
 import feign.jaxrs2.JAXRS2Contract;
 
-public class JAXRS3Contract extends JAXRS2Contract {}
+public class JAXRS3Contract extends JAXRS2Contract {
+
+  @Override
+  protected boolean isStateless() {
+    return getClass() == JAXRS3Contract.class;
+  }
+}
@@ -21,12 +21,15 @@ import feign.AsyncFeign;
 import feign.BaseBuilder;
 import feign.Client;
 import feign.Experimental;
+import feign.InvocationHandlerFactory;
+import feign.InvocationHandlerFactory.MethodHandler;
 import feign.MethodInfoResolver;
 import feign.Target;
 import feign.Target.HardCodedTarget;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -59,57 +62,44 @@ public class CoroutineFeign<C> {
             });
   }
 
-  private static class CoroutineFeignInvocationHandler<T> implements InvocationHandler {
+  /**
+   * Lets the {@link InvocationHandler} of the client call suspend methods directly: their handlers,
+   * found once per target, are replaced with ones awaiting the future of the async handler.
+   */
+  private static class CoroutineInvocationHandlerFactory implements InvocationHandlerFactory {
 
-    private final T instance;
+    private final InvocationHandlerFactory delegate;
 
-    CoroutineFeignInvocationHandler(T instance) {
-      this.instance = instance;
+    CoroutineInvocationHandlerFactory(InvocationHandlerFactory delegate) {
+      this.delegate = delegate;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
-    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-      if ("equals".equals(method.getName()) && method.getParameterCount() == 1) {
-        try {
-          final Object otherHandler =
-              args.length > 0 && args[0] != null ? Proxy.getInvocationHandler(args[0]) : null;
-          return equals(otherHandler);
-        } catch (final IllegalArgumentException e) {
-          return false;
+    public InvocationHandler create(Target target, Map<Method, MethodHandler> dispatch) {
+      final Map<Method, MethodHandler> coroutineDispatch = new LinkedHashMap<>(dispatch);
+      for (Map.Entry<Method, MethodHandler> entry : coroutineDispatch.entrySet()) {
+        if (MethodKt.isSuspend(entry.getKey())) {
+          entry.setValue(new SuspendMethodHandler(entry.getValue()));
         }
-      } else if ("hashCode".equals(method.getName()) && method.getParameterCount() == 0) {
-        return hashCode();
-      } else if ("toString".equals(method.getName()) && method.getParameterCount() == 0) {
-        return toString();
-      }
-
-      if (MethodKt.isSuspend(method)) {
-        CompletableFuture<?> result = (CompletableFuture<?>) method.invoke(instance, args);
-        Continuation<Object> continuation = (Continuation<Object>) args[args.length - 1];
-        return FutureKt.await(result, continuation);
       }
-
-      return method.invoke(instance, args);
+      return delegate.create(target, coroutineDispatch);
     }
+  }
 
-    @Override
-    public boolean equals(Object obj) {
-      if (obj instanceof CoroutineFeignInvocationHandler) {
-        final CoroutineFeignInvocationHandler<?> other = (CoroutineFeignInvocationHandler<?>) obj;
-        return instance.equals(other.instance);
-      }
-      return false;
-    }
+  private static class SuspendMethodHandler implements MethodHandler {
 
-    @Override
-    public int hashCode() {
-      return instance.hashCode();
+    private final MethodHandler asyncHandler;
+
+    SuspendMethodHandler(MethodHandler asyncHandler) {
+      this.asyncHandler = asyncHandler;
     }
 
     @Override
-    public String toString() {
-      return instance.toString();
+    @SuppressWarnings("unchecked")
+    public Object invoke(Object[] argv) throws Throwable {
+      final CompletableFuture<Object> result =
+          (CompletableFuture<Object>) asyncHandler.invoke(argv);
+      return FutureKt.await(result, (Continuation<Object>) argv[argv.length - 1]);
     }
   }
 
@@ -177,7 +167,8 @@ public class CoroutineFeign<C> {
                   .options(options)
                   .requestInterceptors(requestInterceptors)
                   .responseInterceptors(responseInterceptors)
-                  .invocationHandlerFactory(invocationHandlerFactory)
+                  .invocationHandlerFactory(
+                      new CoroutineInvocationHandlerFactory(invocationHandlerFactory))
                   .defaultContextSupplier((AsyncContextSupplier<Object>) defaultContextSupplier)
                   .methodInfoResolver(methodInfoResolver)
                   .build();
@@ -192,20 +183,10 @@ public class CoroutineFeign<C> {
   }
 
   public <T> T newInstance(Target<T> target) {
-    T instance = feign.newInstance(target);
-    return wrap(target.type(), instance);
+    return feign.newInstance(target);
   }
 
   public <T> T newInstance(Target<T> target, C context) {
-    T instance = feign.newInstance(target, context);
-    return wrap(target.type(), instance);
-  }
-
-  private <T> T wrap(Class<T> type, T instance) {
-    return type.cast(
-        Proxy.newProxyInstance(
-            type.getClassLoader(),
-            new Class<?>[] {type},
-            new CoroutineFeignInvocationHandler<>(instance)));
+    return feign.newInstance(target, context);
   }
 }
@@ -17,6 +17,7 @@ package feign.kotlin
 
 import com.google.gson.Gson
 import com.google.gson.JsonIOException
+import feign.FeignException
 import feign.Param
 import feign.QueryMapEncoder
 import feign.RequestInterceptor
@@ -30,7 +31,8 @@ import kotlinx.coroutines.runBlocking
 import okhttp3.mockwebserver.MockResponse
 import okhttp3.mockwebserver.MockWebServer
 import org.assertj.core.api.Assertions.assertThat
-import org.junit.Test
+import org.assertj.core.api.Assertions.catchThrowable
+import org.junit.jupiter.api.Test
 import java.io.IOException
 import java.lang.reflect.Type
 
@@ -125,6 +127,36 @@ class CoroutineFeignTest {
         assertThat(firstOrder).isEqualTo(Unit)
     }
 
+    @Test
+    fun `sut should throw error decoded from response`(): Unit = runBlocking {
+        // Arrange
+        val server = MockWebServer()
+        server.enqueue(MockResponse().setResponseCode(500).setBody("ERROR"))
+
+        val client = TestInterfaceAsyncBuilder()
+            .target("http://localhost:" + server.port)
+
+        // Act
+        val thrown = catchThrowable { runBlocking { client.findOrderThatReturningBasicType(orderId = 1) } }
+
+        // Assert
+        assertThat(thrown).isInstanceOf(FeignException.InternalServerError::class.java)
+    }
+
+    @Test
+    fun `sut should delegate object methods to its target`() {
+        // Arrange
+        val client = TestInterfaceAsyncBuilder()
+            .target("http://localhost:8080")
+        val other = TestInterfaceAsyncBuilder()
+            .target("http://localhost:8080")
+
+        // Assert
+        assertThat(client.toString()).contains("http://localhost:8080")
+        assertThat(client).isEqualTo(other)
+        assertThat(client.hashCode()).isEqualTo(other.hashCode())
+    }
+
     internal class GsonDecoder : Decoder {
         private val gson = Gson()
 
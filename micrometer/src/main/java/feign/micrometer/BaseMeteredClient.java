@@ -31,6 +31,7 @@ abstract class BaseMeteredClient {
   protected final MeterRegistry meterRegistry;
   protected final MetricName metricName;
   protected final MetricTagResolver metricTagResolver;
+  private final MeterCache meterCache;
 
   public BaseMeteredClient(
       MeterRegistry meterRegistry, MetricName metricName, MetricTagResolver metricTagResolver) {
@@ -38,37 +39,57 @@ abstract class BaseMeteredClient {
     this.meterRegistry = meterRegistry;
     this.metricName = metricName;
     this.metricTagResolver = metricTagResolver;
+    this.meterCache = new MeterCache(meterRegistry, metricName, metricTagResolver);
   }
 
   protected void countResponseCode(
       Request request, Response response, Options options, int responseStatus, Exception e) {
     final Tag[] extraTags = extraTags(request, response, options, e);
     final RequestTemplate template = request.requestTemplate();
-    final Tags allTags =
-        metricTagResolver
-            .tag(
-                template.methodMetadata(),
-                template.feignTarget(),
-                e,
-                Tag.of("http_status", String.valueOf(responseStatus)),
-                Tag.of("status_group", responseStatus / 100 + "xx"),
-                Tag.of("http_method", template.methodMetadata().template().method()),
-                Tag.of("uri", template.methodMetadata().template().path()))
-            .and(extraTags);
-    meterRegistry.counter(metricName.name("http_response_code"), allTags).increment();
+    meterCache
+        .get(
+            "http_response_code",
+            template,
+            responseStatus,
+            e,
+            extraTags,
+            () -> {
+              final Tags allTags =
+                  metricTagResolver
+                      .tag(
+                          template.methodMetadata(),
+                          template.feignTarget(),
+                          e,
+                          Tag.of("http_status", String.valueOf(responseStatus)),
+                          Tag.of("status_group", responseStatus / 100 + "xx"),
+                          Tag.of("http_method", template.methodMetadata().template().method()),
+                          Tag.of("uri", template.methodMetadata().template().path()))
+                      .and(extraTags);
+              return meterRegistry.counter(metricName.name("http_response_code"), allTags);
+            })
+        .increment();
   }
 
   protected Timer createTimer(Request request, Response response, Options options, Exception e) {
+    final Tag[] extraTags = extraTags(request, response, options, e);
     final RequestTemplate template = request.requestTemplate();
-    final Tags allTags =
-        metricTagResolver
-            .tag(
-                template.methodMetadata(),
-                template.feignTarget(),
-                e,
-                Tag.of("uri", template.methodMetadata().template().path()))
-            .and(extraTags(request, response, options, e));
-    return meterRegistry.timer(metricName.name(e), allTags);
+    return meterCache.get(
+        "timer",
+        template,
+        0,
+        e,
+        extraTags,
+        () -> {
+          final Tags allTags =
+              metricTagResolver
+                  .tag(
+                      template.methodMetadata(),
+                      template.feignTarget(),
+                      e,
+                      Tag.of("uri", template.methodMetadata().template().path()))
+                  .and(extraTags);
+          return meterRegistry.timer(metricName.name(e), allTags);
+        });
   }
 
   protected Tag[] extraTags(Request request, Response response, Options options, Exception e) {
@@ -28,6 +28,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+/**
+ * Tags meters with the client, method and host, and with the exception and root cause names.
+ * Metered components cache the meters resolved with this resolver, but not with its subclasses, so
+ * these may derive tags from other inputs.
+ */
 public class FeignMetricTagResolver implements MetricTagResolver {
 
   @Override
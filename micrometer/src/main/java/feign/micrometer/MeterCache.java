@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2012 The Feign Authors (feign@commonhaus.dev)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package feign.micrometer;
+
+import feign.MethodMetadata;
+import feign.RequestTemplate;
+import feign.utils.ExceptionUtils;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps meters once resolved, so recording skips building tags and looking them up in the {@link
+ * io.micrometer.core.instrument.MeterRegistry}. Meters are keyed by everything the default {@link
+ * MetricName} and {@link FeignMetricTagResolver} derive names and tags from: the method, the target
+ * url, the status, the classes of the exception and its root cause, and the extra tags. Custom
+ * implementations, subclasses of {@link FeignMetricTagResolver} included, may use more, so meters
+ * are resolved on every call for them.
+ *
+ * <p>Meters removed from the registry, including by {@link MeterRegistry#clear()}, are evicted, so
+ * the next call registers them again rather than recording into meters nobody reports.
+ */
+final class MeterCache {
+
+  /** Stops caching once reached, in case extra tags vary per request. */
+  private static final int MAX_METERS = 10_000;
+
+  /**
+   * Caches by registry, notified by a single listener per registry, as listeners cannot be
+   * unregistered. Both are weakly referenced, so neither caches nor registries are retained.
+   */
+  private static final Map<MeterRegistry, Set<MeterCache>> CACHES = new WeakHashMap<>();
+
+  private final ConcurrentMap<Key, Meter> meters;
+
+  MeterCache(
+      MeterRegistry meterRegistry, MetricName metricName, MetricTagResolver metricTagResolver) {
+    this.meters =
+        metricName instanceof FeignMetricName
+                // subclasses may derive tags from more than the key, such as exception messages
+                && metricTagResolver.getClass() == FeignMetricTagResolver.class
+            ? new ConcurrentHashMap<>()
+            : null;
+    if (meters != null) {
+      register(meterRegistry, this);
+    }
+  }
+
+  private static void register(MeterRegistry meterRegistry, MeterCache cache) {
+    synchronized (CACHES) {
+      Set<MeterCache> caches = CACHES.get(meterRegistry);
+      if (caches == null) {
+        final Set<MeterCache> registered = Collections.newSetFromMap(new WeakHashMap<>());
+        meterRegistry.config().onMeterRemoved(meter -> evict(registered, meter));
+        CACHES.put(meterRegistry, registered);
+        caches = registered;
+      }
+      caches.add(cache);
+    }
+  }
+
+  private static void evict(Set<MeterCache> caches, Meter meter) {
+    final List<MeterCache> snapshot;
+    synchronized (CACHES) {
+      snapshot = new ArrayList<>(caches);
+    }
+    for (MeterCache cache : snapshot) {
+      cache.meters.values().removeIf(cached -> cached == meter);
+    }
+  }
+
+  /**
+   * Returns the cached meter for these inputs, resolving it with {@code resolver} when missing.
+   *
+   * @param name distinguishing meters created from the same inputs.
+   */
+  @SuppressWarnings("unchecked")
+  <M extends Meter> M get(
+      String name,
+      RequestTemplate template,
+      int status,
+      Throwable e,
+      Tag[] extraTags,
+      Supplier<M> resolver) {
+    if (meters == null) {
+      return resolver.get();
+    }
+    final Key key = new Key(name, template, status, e, extraTags);
+    M meter = (M) meters.get(key);
+    if (meter == null) {
+      meter = resolver.get();
+      if (meters.size() < MAX_METERS) {
+        meters.putIfAbsent(key, meter);
+      }
+    }
+    return meter;
+  }
+
+  private static final class Key {
+
+    private final String name;
+    private final MethodMetadata methodMetadata;
+    private final String url;
+    private final int status;
+    private final Class<?> exception;
+    private final Class<?> rootCause;
+    private final Tag[] extraTags;
+    private final int hashCode;
+
+    Key(String name, RequestTemplate template, int status, Throwable e, Tag[] extraTags) {
+      this.name = name;
+      this.methodMetadata = template.methodMetadata();
+      this.url = template.feignTarget().url();
+      this.status = status;
+      this.exception = e != null ? e.getClass() : null;
+      this.rootCause = e != null ? ExceptionUtils.getRootCause(e).getClass() : null;
+      this.extraTags = extraTags;
+      int h = name.hashCode();
+      h = 31 * h + System.identityHashCode(methodMetadata);
+      h = 31 * h + url.hashCode();
+      h = 31 * h + status;
+      h = 31 * h + Objects.hashCode(exception);
+      this.hashCode = 31 * h + Arrays.hashCode(extraTags);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      final Key other = (Key) obj;
+      return methodMetadata == other.methodMetadata
+          && status == other.status
+          && exception == other.exception
+          && rootCause == other.rootCause
+          && name.equals(other.name)
+          && url.equals(other.url)
+          && Arrays.equals(extraTags, other.extraTags);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -32,6 +32,7 @@ public class MeteredDecoder implements Decoder {
   private final MeterRegistry meterRegistry;
   private final MetricName metricName;
   private final MetricTagResolver metricTagResolver;
+  private final MeterCache meterCache;
 
   public MeteredDecoder(Decoder decoder, MeterRegistry meterRegistry) {
     this(decoder, meterRegistry, new FeignMetricName(Decoder.class), new FeignMetricTagResolver());
@@ -46,6 +47,7 @@ public class MeteredDecoder implements Decoder {
     this.meterRegistry = meterRegistry;
     this.metricName = metricName;
     this.metricTagResolver = metricTagResolver;
+    this.meterCache = new MeterCache(meterRegistry, metricName, metricTagResolver);
   }
 
   @Override
@@ -84,33 +86,59 @@ public class MeteredDecoder implements Decoder {
   protected Timer createTimer(Response response, Type type, Exception e) {
     final Tag[] extraTags = extraTags(response, type, e);
     final RequestTemplate template = response.request().requestTemplate();
-    final Tags allTags =
-        metricTagResolver.tag(template.methodMetadata(), template.feignTarget(), e, extraTags);
-    return meterRegistry.timer(metricName.name(e), allTags);
+    return meterCache.get(
+        "timer",
+        template,
+        0,
+        e,
+        extraTags,
+        () -> {
+          final Tags allTags =
+              metricTagResolver.tag(
+                  template.methodMetadata(), template.feignTarget(), e, extraTags);
+          return meterRegistry.timer(metricName.name(e), allTags);
+        });
   }
 
   protected Counter createExceptionCounter(Response response, Type type, Exception e) {
     final Tag[] extraTags = extraTags(response, type, e);
     final RequestTemplate template = response.request().requestTemplate();
-    final Tags allTags =
-        metricTagResolver
-            .tag(
-                template.methodMetadata(),
-                template.feignTarget(),
-                Tag.of("uri", template.methodMetadata().template().path()),
-                Tag.of("exception_name", e.getClass().getSimpleName()),
-                Tag.of(
-                    "root_cause_name", ExceptionUtils.getRootCause(e).getClass().getSimpleName()))
-            .and(extraTags);
-    return meterRegistry.counter(metricName.name("error_count"), allTags);
+    return meterCache.get(
+        "error_count",
+        template,
+        0,
+        e,
+        extraTags,
+        () -> {
+          final Tags allTags =
+              metricTagResolver
+                  .tag(
+                      template.methodMetadata(),
+                      template.feignTarget(),
+                      Tag.of("uri", template.methodMetadata().template().path()),
+                      Tag.of("exception_name", e.getClass().getSimpleName()),
+                      Tag.of(
+                          "root_cause_name",
+                          ExceptionUtils.getRootCause(e).getClass().getSimpleName()))
+                  .and(extraTags);
+          return meterRegistry.counter(metricName.name("error_count"), allTags);
+        });
   }
 
   protected DistributionSummary createSummary(Response response, Type type) {
     final Tag[] tags = extraTags(response, type, null);
     final RequestTemplate template = response.request().requestTemplate();
-    final Tags allTags =
-        metricTagResolver.tag(template.methodMetadata(), template.feignTarget(), tags);
-    return meterRegistry.summary(metricName.name("response_size"), allTags);
+    return meterCache.get(
+        "response_size",
+        template,
+        0,
+        null,
+        tags,
+        () -> {
+          final Tags allTags =
+              metricTagResolver.tag(template.methodMetadata(), template.feignTarget(), tags);
+          return meterRegistry.summary(metricName.name("response_size"), allTags);
+        });
   }
 
   protected Tag[] extraTags(Response response, Type type, Exception e) {
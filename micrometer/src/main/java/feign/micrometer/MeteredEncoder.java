@@ -30,6 +30,7 @@ public class MeteredEncoder implements Encoder {
   private final MeterRegistry meterRegistry;
   private final MetricName metricName;
   private final MetricTagResolver metricTagResolver;
+  private final MeterCache meterCache;
 
   public MeteredEncoder(Encoder encoder, MeterRegistry meterRegistry) {
     this(encoder, meterRegistry, new FeignMetricName(Encoder.class), new FeignMetricTagResolver());
@@ -44,6 +45,7 @@ public class MeteredEncoder implements Encoder {
     this.meterRegistry = meterRegistry;
     this.metricName = metricName;
     this.metricTagResolver = metricTagResolver;
+    this.meterCache = new MeterCache(meterRegistry, metricName, metricTagResolver);
   }
 
   @Override
@@ -58,22 +60,34 @@ public class MeteredEncoder implements Encoder {
   }
 
   protected Timer createTimer(Object object, Type bodyType, RequestTemplate template) {
-    final Tags allTags =
-        metricTagResolver.tag(
-            template.methodMetadata(),
-            template.feignTarget(),
-            extraTags(object, bodyType, template));
-    return meterRegistry.timer(metricName.name(), allTags);
+    final Tag[] extraTags = extraTags(object, bodyType, template);
+    return meterCache.get(
+        "timer",
+        template,
+        0,
+        null,
+        extraTags,
+        () -> {
+          final Tags allTags =
+              metricTagResolver.tag(template.methodMetadata(), template.feignTarget(), extraTags);
+          return meterRegistry.timer(metricName.name(), allTags);
+        });
   }
 
   protected DistributionSummary createSummary(
       Object object, Type bodyType, RequestTemplate template) {
-    final Tags allTags =
-        metricTagResolver.tag(
-            template.methodMetadata(),
-            template.feignTarget(),
-            extraTags(object, bodyType, template));
-    return meterRegistry.summary(metricName.name("response_size"), allTags);
+    final Tag[] extraTags = extraTags(object, bodyType, template);
+    return meterCache.get(
+        "response_size",
+        template,
+        0,
+        null,
+        extraTags,
+        () -> {
+          final Tags allTags =
+              metricTagResolver.tag(template.methodMetadata(), template.feignTarget(), extraTags);
+          return meterRegistry.summary(metricName.name("response_size"), allTags);
+        });
   }
 
   protected Tag[] extraTags(Object object, Type bodyType, RequestTemplate template) {
@@ -31,6 +31,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * Meters clients, encoders, decoders and method invocations in a {@link MeterRegistry}. Meters are
+ * cached by the metered components once resolved, and evicted when removed from the registry, so
+ * removing them or clearing the registry makes the next calls register them again.
+ */
 public class MicrometerCapability implements Capability {
 
   private final MeterRegistry meterRegistry;
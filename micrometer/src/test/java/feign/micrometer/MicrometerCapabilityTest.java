@@ -15,25 +15,119 @@
  */
 package feign.micrometer;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
 import feign.Capability;
+import feign.Client;
+import feign.Feign;
+import feign.FeignException;
 import feign.Util;
+import feign.mock.HttpMethod;
+import feign.mock.MockClient;
+import feign.mock.MockTarget;
 import io.micrometer.core.instrument.Measurement;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Meter.Id;
 import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.simple.SimpleConfig;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
 
 public class MicrometerCapabilityTest
     extends AbstractMetricsTestBase<SimpleMeterRegistry, Id, Meter> {
 
+  @Test
+  void cachedMetersCountEachStatusSeparately() {
+    final SimpleSource source =
+        Feign.builder()
+            .client(
+                new MockClient(true)
+                    .ok(HttpMethod.GET, "/get", "1")
+                    .ok(HttpMethod.GET, "/get", "2")
+                    .add(HttpMethod.GET, "/get", 503, "3"))
+            .addCapability(createMetricCapability())
+            .target(new MockTarget<>(SimpleSource.class));
+
+    source.get("a");
+    source.get("b");
+    assertThatExceptionOfType(FeignException.class).isThrownBy(() -> source.get("c"));
+
+    assertThat(responseCodeCount("200")).isEqualTo(2);
+    assertThat(responseCodeCount("503")).isEqualTo(1);
+  }
+
+  @Test
+  void cachedMetersAreRegisteredAgainAfterRegistryIsCleared() {
+    final SimpleSource source =
+        Feign.builder()
+            .client(
+                new MockClient(true)
+                    .ok(HttpMethod.GET, "/get", "1")
+                    .ok(HttpMethod.GET, "/get", "2"))
+            .addCapability(createMetricCapability())
+            .target(new MockTarget<>(SimpleSource.class));
+
+    source.get("a");
+    metricsRegistry.clear();
+    source.get("b");
+
+    assertThat(responseCodeCount("200")).isEqualTo(1);
+  }
+
+  @Test
+  void metersOfTagResolverSubclassesAreResolvedOnEachCall() {
+    final AtomicReference<String> tenant = new AtomicReference<>("a");
+    final SimpleSource source =
+        Feign.builder()
+            .client(
+                new MeteredClient(
+                    new MockClient(true)
+                        .ok(HttpMethod.GET, "/get", "1")
+                        .ok(HttpMethod.GET, "/get", "2"),
+                    metricsRegistry,
+                    new FeignMetricName(Client.class),
+                    new FeignMetricTagResolver() {
+                      @Override
+                      protected List<Tag> defaultTags() {
+                        return Collections.singletonList(Tag.of("tenant", tenant.get()));
+                      }
+                    }))
+            .target(new MockTarget<>(SimpleSource.class));
+
+    source.get("a");
+    tenant.set("b");
+    source.get("b");
+
+    for (String each : Arrays.asList("a", "b")) {
+      assertThat(
+              metricsRegistry
+                  .get("feign.Client.http_response_code")
+                  .tag("tenant", each)
+                  .counter()
+                  .count())
+          .isEqualTo(1);
+    }
+  }
+
+  private double responseCodeCount(String status) {
+    return metricsRegistry
+        .get("feign.Client.http_response_code")
+        .tag("http_status", status)
+        .counter()
+        .count();
+  }
+
   @Override
   protected SimpleMeterRegistry createMetricsRegistry() {
     return new SimpleMeterRegistry(SimpleConfig.DEFAULT, new MockClock());
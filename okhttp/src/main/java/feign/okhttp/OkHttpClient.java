@@ -30,6 +30,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import okhttp3.*;
+import okio.BufferedSink;
 
 /**
  * This module directs Feign's http requests to
@@ -78,7 +79,19 @@ public final class OkHttpClient implements Client, AsyncClient<Object> {
       requestBuilder.addHeader("Accept", "*/*");
     }
 
-    byte[] inputBody = input.body();
+    if (input.isStreaming() && input.httpMethod().isWithBody()) {
+      requestBuilder.removeHeader("Content-Type");
+      requestBuilder.method(input.httpMethod().name(), streamingBody(input, mediaType));
+      return requestBuilder.build();
+    }
+
+    byte[] inputBody = null;
+    if (input.isStreaming()) {
+      // methods without body drop it, rather than buffering it
+      requestBuilder.removeHeader("Content-Length");
+    } else {
+      inputBody = input.body();
+    }
     if (input.httpMethod().isWithBody()) {
       requestBuilder.removeHeader("Content-Type");
       if (inputBody == null) {
@@ -93,6 +106,27 @@ public final class OkHttpClient implements Client, AsyncClient<Object> {
     return requestBuilder.build();
   }
 
+  /** Writes the streaming body of the request straight to the OkHttp sink. */
+  private static RequestBody streamingBody(feign.Request input, MediaType mediaType) {
+    return new RequestBody() {
+
+      @Override
+      public MediaType contentType() {
+        return mediaType;
+      }
+
+      @Override
+      public long contentLength() {
+        return input.contentLength();
+      }
+
+      @Override
+      public void writeTo(BufferedSink sink) throws IOException {
+        input.writeBody(sink.outputStream());
+      }
+    };
+  }
+
   private static feign.Response toFeignResponse(Response response, feign.Request request)
       throws IOException {
     return feign.Response.builder()
@@ -106,6 +106,22 @@ public class OkHttpClientTest extends AbstractClientTest {
     assertThat(payload).isEqualTo(expectedBody);
   }
 
+  @Test
+  void dropsStreamingBodyOfMethodsWithoutBody() throws Exception {
+    server.enqueue(new MockResponse().setBody("foo"));
+    byte[] content = "streamed content".getBytes(StandardCharsets.UTF_8);
+    OkHttpClientTestInterface api =
+        newBuilder()
+            .encoder(
+                (object, bodyType, template) ->
+                    template.body(out -> out.write(content), content.length, Util.UTF_8))
+            .target(OkHttpClientTestInterface.class, "http://localhost:" + server.getPort());
+
+    assertThat(api.getWithBody("ignored").status()).isEqualTo(200);
+
+    MockWebServerAssertions.assertThat(server.takeRequest()).hasMethod("GET").hasBody(new byte[0]);
+  }
+
   /*
    * OkHTTP does not support gzip and deflate compression out-of-the-box. But you can add an
    * interceptor that implies it, see
@@ -145,5 +161,8 @@ public class OkHttpClientTest extends AbstractClientTest {
 
     @RequestLine("GET /")
     Response get();
+
+    @RequestLine("GET /")
+    Response getWithBody(String body);
   }
 }
@@ -15,9 +15,11 @@
  */
 package feign.reactive;
 
+import feign.Experimental;
 import feign.Feign;
 import feign.InvocationHandlerFactory;
 import feign.Target;
+import feign.VirtualThreads;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.util.Map;
@@ -36,12 +38,25 @@ public class ReactorFeign extends ReactiveFeign {
 
   public static class Builder extends ReactiveFeign.Builder {
 
-    private final Scheduler scheduler;
+    private Scheduler scheduler;
 
     Builder(Scheduler scheduler) {
       this.scheduler = scheduler;
     }
 
+    /**
+     * Subscribes to each request on a new virtual thread instead of the scheduler provided, so
+     * blocking clients don't hold a platform thread each. Falls back to platform threads on JVMs
+     * without virtual threads.
+     *
+     * @see VirtualThreads
+     */
+    @Experimental
+    public Builder virtualThreads() {
+      this.scheduler = LazyInitializedVirtualThreadScheduler.instance;
+      return this;
+    }
+
     @Override
     public Feign internalBuild() {
       super.invocationHandlerFactory(new ReactorInvocationHandlerFactory(scheduler));
@@ -55,6 +70,12 @@ public class ReactorFeign extends ReactiveFeign {
     }
   }
 
+  private static class LazyInitializedVirtualThreadScheduler {
+
+    private static final Scheduler instance =
+        Schedulers.fromExecutorService(VirtualThreads.newThreadPerTaskExecutor(), "feign-virtual");
+  }
+
   private static class ReactorInvocationHandlerFactory implements InvocationHandlerFactory {
     private final Scheduler scheduler;
 
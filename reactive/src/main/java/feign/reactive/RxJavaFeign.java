@@ -15,9 +15,11 @@
  */
 package feign.reactive;
 
+import feign.Experimental;
 import feign.Feign;
 import feign.InvocationHandlerFactory;
 import feign.Target;
+import feign.VirtualThreads;
 import io.reactivex.Scheduler;
 import io.reactivex.schedulers.Schedulers;
 import java.lang.reflect.InvocationHandler;
@@ -33,10 +35,12 @@ public class RxJavaFeign extends ReactiveFeign {
   public static class Builder extends ReactiveFeign.Builder {
 
     private Scheduler scheduler = Schedulers.trampoline();
+    private Scheduler subscribeScheduler;
 
     @Override
     public Feign internalBuild() {
-      super.invocationHandlerFactory(new RxJavaInvocationHandlerFactory(scheduler));
+      super.invocationHandlerFactory(
+          new RxJavaInvocationHandlerFactory(scheduler, subscribeScheduler));
       return super.internalBuild();
     }
 
@@ -50,18 +54,40 @@ public class RxJavaFeign extends ReactiveFeign {
       this.scheduler = scheduler;
       return this;
     }
+
+    /**
+     * Subscribes to each request on a new virtual thread, so blocking clients don't hold the
+     * subscribing thread nor a platform thread each. Results are still observed on the {@link
+     * #scheduleOn(Scheduler) scheduler}. Falls back to platform threads on JVMs without virtual
+     * threads.
+     *
+     * @see VirtualThreads
+     */
+    @Experimental
+    public Builder virtualThreads() {
+      this.subscribeScheduler = LazyInitializedVirtualThreadScheduler.instance;
+      return this;
+    }
+  }
+
+  private static class LazyInitializedVirtualThreadScheduler {
+
+    private static final Scheduler instance =
+        Schedulers.from(VirtualThreads.newThreadPerTaskExecutor());
   }
 
   private static class RxJavaInvocationHandlerFactory implements InvocationHandlerFactory {
     private final Scheduler scheduler;
+    private final Scheduler subscribeScheduler;
 
-    private RxJavaInvocationHandlerFactory(Scheduler scheduler) {
+    private RxJavaInvocationHandlerFactory(Scheduler scheduler, Scheduler subscribeScheduler) {
       this.scheduler = scheduler;
+      this.subscribeScheduler = subscribeScheduler;
     }
 
     @Override
     public InvocationHandler create(Target target, Map<Method, MethodHandler> dispatch) {
-      return new RxJavaInvocationHandler(target, dispatch, scheduler);
+      return new RxJavaInvocationHandler(target, dispatch, scheduler, subscribeScheduler);
     }
   }
 }
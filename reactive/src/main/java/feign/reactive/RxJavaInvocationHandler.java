@@ -25,15 +25,29 @@ import org.reactivestreams.Publisher;
 
 public class RxJavaInvocationHandler extends ReactiveInvocationHandler {
   private final Scheduler scheduler;
+  private final Scheduler subscribeScheduler;
 
   RxJavaInvocationHandler(
       Target<?> target, Map<Method, MethodHandler> dispatch, Scheduler scheduler) {
+    this(target, dispatch, scheduler, null);
+  }
+
+  RxJavaInvocationHandler(
+      Target<?> target,
+      Map<Method, MethodHandler> dispatch,
+      Scheduler scheduler,
+      Scheduler subscribeScheduler) {
     super(target, dispatch);
     this.scheduler = scheduler;
+    this.subscribeScheduler = subscribeScheduler;
   }
 
   @Override
   protected Publisher invoke(Method method, MethodHandler methodHandler, Object[] arguments) {
-    return Flowable.fromPublisher(this.invokeMethod(methodHandler, arguments)).observeOn(scheduler);
+    Flowable<?> invocation = Flowable.fromPublisher(this.invokeMethod(methodHandler, arguments));
+    if (subscribeScheduler != null) {
+      invocation = invocation.subscribeOn(subscribeScheduler);
+    }
+    return invocation.observeOn(scheduler);
   }
 }
@@ -55,6 +55,7 @@ import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import okhttp3.mockwebserver.MockResponse;
@@ -140,6 +141,38 @@ public class ReactiveFeignIntegrationTest {
     assertThat(webServer.takeRequest().getPath()).isEqualToIgnoringCase("/users");
   }
 
+  @Test
+  void reactorOnVirtualThreads() {
+    this.webServer.enqueue(new MockResponse().setBody("1.0"));
+    AtomicBoolean virtual = new AtomicBoolean();
+
+    TestReactorService service =
+        ReactorFeign.builder()
+            .virtualThreads()
+            .decoder(new ReactorDecoder(new JacksonDecoder()))
+            .requestInterceptor(template -> virtual.set(Thread.currentThread().isVirtual()))
+            .target(TestReactorService.class, this.getServerUrl());
+
+    StepVerifier.create(service.version()).expectNext("1.0").expectComplete().verify();
+    assertThat(virtual).isTrue();
+  }
+
+  @Test
+  void rxJavaOnVirtualThreads() {
+    this.webServer.enqueue(new MockResponse().setBody("1.0"));
+    AtomicBoolean virtual = new AtomicBoolean();
+
+    TestReactiveXService service =
+        RxJavaFeign.builder()
+            .virtualThreads()
+            .decoder(new RxJavaDecoder(new JacksonDecoder()))
+            .requestInterceptor(template -> virtual.set(Thread.currentThread().isVirtual()))
+            .target(TestReactiveXService.class, this.getServerUrl());
+
+    StepVerifier.create(service.version()).expectNext("1.0").expectComplete().verify();
+    assertThat(virtual).isTrue();
+  }
+
   @Test
   void rxJavaTarget() throws Exception {
     this.webServer.enqueue(new MockResponse().setBody("1.0"));
@@ -20,7 +20,18 @@ import com.netflix.client.config.CommonClientConfigKey;
 import com.netflix.client.config.DefaultClientConfigImpl;
 import com.netflix.client.config.IClientConfig;
 import com.netflix.client.config.IClientConfigKey;
+import com.netflix.config.ConfigurationManager;
 import com.netflix.loadbalancer.ILoadBalancer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.commons.configuration.AbstractConfiguration;
+import org.apache.commons.configuration.event.ConfigurationEvent;
+import org.apache.commons.configuration.event.ConfigurationListener;
 
 public interface LBClientFactory {
 
@@ -37,6 +48,97 @@ public interface LBClientFactory {
     }
   }
 
+  /**
+   * Keeps the {@link LBClient} created by a delegate factory per client name, so its load balancer,
+   * retry handler and server statistics are shared by all requests to that client.
+   *
+   * <p>Clients read their configuration when created. Entries are dropped when a property of the
+   * client ({@code <clientName>.ribbon.*}) changes in the Archaius configuration, or when any
+   * default ({@code ribbon.*}) changes, and are created again on the next request. Use {@link
+   * #invalidate(String)} for configuration changed by other means. The configuration only weakly
+   * references factories, so unused ones are collected along with their clients.
+   */
+  public static final class Cached implements LBClientFactory {
+
+    private static final String RIBBON_NAMESPACE = "ribbon.";
+
+    private final LBClientFactory delegate;
+    private final ConcurrentMap<String, LBClient> clients = new ConcurrentHashMap<>();
+
+    public Cached(LBClientFactory delegate) {
+      this.delegate = delegate;
+      InvalidatingListener.register(this);
+    }
+
+    @Override
+    public LBClient create(String clientName) {
+      LBClient client = clients.get(clientName);
+      if (client == null) {
+        client = clients.computeIfAbsent(clientName, delegate::create);
+      }
+      return client;
+    }
+
+    /** Drops the cached client for {@code clientName}, if any. */
+    public void invalidate(String clientName) {
+      clients.remove(clientName);
+    }
+
+    /** Drops all cached clients. */
+    public void invalidateAll() {
+      clients.clear();
+    }
+
+    private void configurationChanged(String propertyName) {
+      if (clients.isEmpty()) {
+        return;
+      }
+      if (propertyName == null || propertyName.startsWith(RIBBON_NAMESPACE)) {
+        clients.clear();
+        return;
+      }
+      final int namespace = propertyName.indexOf("." + RIBBON_NAMESPACE);
+      if (namespace > 0) {
+        clients.remove(propertyName.substring(0, namespace));
+      }
+    }
+
+    /**
+     * Single listener registered in the Archaius configuration, which only weakly references the
+     * factories it invalidates, so unused factories and their clients can be collected.
+     */
+    static final class InvalidatingListener implements ConfigurationListener {
+
+      private static final Set<Cached> FACTORIES = Collections.newSetFromMap(new WeakHashMap<>());
+      private static AbstractConfiguration registeredIn;
+
+      static synchronized void register(Cached factory) {
+        final AbstractConfiguration config = ConfigurationManager.getConfigInstance();
+        if (registeredIn != config) {
+          config.addConfigurationListener(new InvalidatingListener());
+          registeredIn = config;
+        }
+        FACTORIES.add(factory);
+      }
+
+      private static synchronized List<Cached> factories() {
+        return new ArrayList<>(FACTORIES);
+      }
+
+      private InvalidatingListener() {}
+
+      @Override
+      public void configurationChanged(ConfigurationEvent event) {
+        if (event.isBeforeUpdate()) {
+          return;
+        }
+        for (Cached factory : factories()) {
+          factory.configurationChanged(event.getPropertyName());
+        }
+      }
+    }
+  }
+
   IClientConfigKey<String> RetryableStatusCodes =
       new CommonClientConfigKey<String>("RetryableStatusCodes") {};
 
@@ -62,7 +62,7 @@ public class RibbonClient implements Client {
    */
   @Deprecated
   public RibbonClient(Client delegate) {
-    this(delegate, new LBClientFactory.Default());
+    this(delegate, new LBClientFactory.Cached(new LBClientFactory.Default()));
   }
 
   RibbonClient(Client delegate, LBClientFactory lbClientFactory) {
@@ -139,7 +139,9 @@ public class RibbonClient implements Client {
     public RibbonClient build() {
       return new RibbonClient(
           delegate != null ? delegate : new Client.Default(null, null),
-          lbClientFactory != null ? lbClientFactory : new LBClientFactory.Default());
+          lbClientFactory != null
+              ? lbClientFactory
+              : new LBClientFactory.Cached(new LBClientFactory.Default()));
     }
   }
 }
@@ -15,9 +15,11 @@
  */
 package feign.ribbon;
 
+import static com.netflix.config.ConfigurationManager.getConfigInstance;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.netflix.client.ClientFactory;
+import java.lang.ref.WeakReference;
 import org.junit.jupiter.api.Test;
 
 class LBClientFactoryTest {
@@ -30,4 +32,61 @@ class LBClientFactoryTest {
     assertThat(client.getLoadBalancer())
         .isEqualTo(ClientFactory.getNamedLoadBalancer("clientName"));
   }
+
+  @Test
+  void cachedReusesLBClientPerName() {
+    LBClientFactory.Cached lbClientFactory =
+        new LBClientFactory.Cached(new LBClientFactory.Default());
+
+    LBClient client = lbClientFactory.create("cachedClient");
+
+    assertThat(lbClientFactory.create("cachedClient")).isSameAs(client);
+    assertThat(lbClientFactory.create("otherClient")).isNotSameAs(client);
+
+    lbClientFactory.invalidate("cachedClient");
+
+    assertThat(lbClientFactory.create("cachedClient")).isNotSameAs(client);
+  }
+
+  @Test
+  void cachedDropsLBClientWhenItsConfigurationChanges() {
+    LBClientFactory.Cached lbClientFactory =
+        new LBClientFactory.Cached(new LBClientFactory.Default());
+    LBClient client = lbClientFactory.create("changingClient");
+    LBClient other = lbClientFactory.create("stableClient");
+
+    getConfigInstance().setProperty("changingClient.ribbon.ReadTimeout", 1234);
+    try {
+      assertThat(lbClientFactory.create("changingClient")).isNotSameAs(client);
+      assertThat(lbClientFactory.create("stableClient")).isSameAs(other);
+    } finally {
+      getConfigInstance().clearProperty("changingClient.ribbon.ReadTimeout");
+    }
+  }
+
+  @Test
+  void cachedFactoriesShareOneConfigurationListener() {
+    new LBClientFactory.Cached(new LBClientFactory.Default());
+    int listeners = getConfigInstance().getConfigurationListeners().size();
+
+    for (int i = 0; i < 100; i++) {
+      new LBClientFactory.Cached(new LBClientFactory.Default()).create("manyClients");
+    }
+
+    assertThat(getConfigInstance().getConfigurationListeners()).hasSize(listeners);
+  }
+
+  @Test
+  void unusedCachedFactoriesAreCollected() throws InterruptedException {
+    WeakReference<LBClientFactory.Cached> lbClientFactory =
+        new WeakReference<>(new LBClientFactory.Cached(new LBClientFactory.Default()));
+    lbClientFactory.get().create("collectedClient");
+
+    for (int i = 0; i < 50 && lbClientFactory.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    assertThat(lbClientFactory.get()).isNull();
+  }
 }
@@ -31,6 +31,11 @@ public class SpringContract extends DeclarativeContract {
   static final String ACCEPT = "Accept";
   static final String CONTENT_TYPE = "Content-Type";
 
+  @Override
+  protected boolean isStateless() {
+    return getClass() == SpringContract.class;
+  }
+
   public SpringContract() {
     registerClassAnnotation(
         RequestMapping.class,